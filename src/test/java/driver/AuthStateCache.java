@@ -0,0 +1,96 @@
+package driver;
+
+import config.ConfigReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Run-wide cache of Playwright storage state per credential set.
+ *
+ * <p>The first scenario that signs in through the UI stores the resulting cookies and
+ * local storage here; later scenarios seed a new {@link com.microsoft.playwright.BrowserContext}
+ * from it instead of repeating the sign-in journey. Entries expire after
+ * {@code auth.stateTtlSeconds} and can be invalidated when the app rejects them; a TTL of
+ * {@code 0} (the default) disables the cache.</p>
+ */
+public final class AuthStateCache {
+
+    private static final Logger log = LoggerFactory.getLogger(AuthStateCache.class);
+
+    private static final Map<String, Entry> CACHE = new ConcurrentHashMap<>();
+
+    private AuthStateCache() {
+        // Utility class
+    }
+
+    /**
+     * Gets the cached storage state for a credential set.
+     *
+     * @param username {@link String} the username
+     * @param password {@link String} the password
+     * @return {@link String} the storage state JSON, or {@code null} if missing or expired
+     */
+    public static String get(String username, String password) {
+        String key = key(username, password);
+        Entry entry = CACHE.get(key);
+        if (entry == null) {
+            return null;
+        }
+
+        if (entry.isExpired()) {
+            CACHE.remove(key, entry);
+            log.info("AUTH state expired for user '{}'", username);
+            return null;
+        }
+
+        return entry.storageState();
+    }
+
+    /**
+     * Stores the storage state captured after a successful sign-in.
+     *
+     * @param username {@link String} the username
+     * @param password {@link String} the password
+     * @param storageState {@link String} the storage state JSON from {@code BrowserContext.storageState()}
+     */
+    public static void put(String username, String password, String storageState) {
+        if (ttl().isZero()) {
+            return;
+        }
+        CACHE.put(key(username, password), new Entry(storageState, Instant.now().plus(ttl())));
+        log.info("AUTH state cached for user '{}'", username);
+    }
+
+    /**
+     * Drops the cached state for a credential set (e.g. the app no longer accepts the session).
+     *
+     * @param username {@link String} the username
+     * @param password {@link String} the password
+     */
+    public static void invalidate(String username, String password) {
+        if (CACHE.remove(key(username, password)) != null) {
+            log.info("AUTH state invalidated for user '{}'", username);
+        }
+    }
+
+    private static String key(String username, String password) {
+        return username + '\u0000' + password;
+    }
+
+    private static Duration ttl() {
+        String seconds = ConfigReader.get("auth.stateTtlSeconds");
+        return Duration.ofSeconds((seconds == null || seconds.isBlank()) ? 0 : Long.parseLong(seconds.trim()));
+    }
+
+    private record Entry(String storageState, Instant expiresAt) {
+
+        boolean isExpired() {
+            return Instant.now().isAfter(expiresAt);
+        }
+    }
+}
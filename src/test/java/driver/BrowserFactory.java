@@ -0,0 +1,54 @@
+package driver;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Playwright;
+import config.ConfigReader;
+
+/**
+ * Launches Playwright browsers from framework configuration.
+ *
+ * <p>Keeps browser selection and launch options in one place so that both the
+ * per-scenario lifecycle and the pooled lifecycle launch identical browsers.</p>
+ */
+public final class BrowserFactory {
+
+    private BrowserFactory() {
+        // Utility class
+    }
+
+    /**
+     * Launches the configured browser on the given Playwright instance.
+     *
+     * @param playwright {@link Playwright} the Playwright instance
+     * @return {@link Browser} the launched browser
+     */
+    public static Browser launch(Playwright playwright) {
+        BrowserType.LaunchOptions launchOptions = new BrowserType.LaunchOptions()
+                .setHeadless(ConfigReader.getBool("headless"))
+                .setSlowMo(ConfigReader.getInt("slowMoMs"));
+
+        return launch(playwright, ConfigReader.get("browser"), launchOptions);
+    }
+
+    /**
+     * Creates a Playwright {@link Browser} instance for the requested browser name.
+     *
+     * @param playwright {@link Playwright} the Playwright instance
+     * @param browserName {@link String} the browser name: chromium | firefox | webkit
+     * @param launchOptions {@link BrowserType.LaunchOptions} the browser launch options
+     * @return {@link Browser} the created browser
+     */
+    public static Browser launch(Playwright playwright,
+                                 String browserName,
+                                 BrowserType.LaunchOptions launchOptions) {
+
+        String name = (browserName == null) ? "chromium" : browserName.toLowerCase();
+
+        return switch (name) {
+            case "firefox" -> playwright.firefox().launch(launchOptions);
+            case "webkit" -> playwright.webkit().launch(launchOptions);
+            default -> playwright.chromium().launch(launchOptions);
+        };
+    }
+}
@@ -0,0 +1,432 @@
+package driver;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.Playwright;
+import config.ConfigReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps a fixed set of long-lived {@link PlaywrightWorker}s, each owning one {@link Playwright}
+ * and one {@link Browser} for the whole run (enabled via {@code browserPool.enabled}).
+ *
+ * <p>A scenario leases a worker for its whole lifetime: {@link #newContext()} binds an idle
+ * worker to the scenario's thread and {@link #releaseWorker(long)} hands it back. Which
+ * fork-join thread runs a scenario therefore no longer matters; at most {@code workers}
+ * browsers exist however many threads the parallel scheduler uses, and
+ * {@link ConcurrencyGovernor} can hold scenarios back further while the host is under pressure.</p>
+ *
+ * <p>Scenarios still get a fresh {@link com.microsoft.playwright.BrowserContext} and
+ * {@link com.microsoft.playwright.Page}; only the driver and browser processes are reused.
+ * Each worker also keeps up to {@code contextPool.depth} contexts prepared by
+ * {@link ContextFactory} on its own thread after a scenario has released it, so that
+ * {@link #newContext()} usually hands over a warmed context instead of building one on the
+ * scenario's critical path. With {@code contextIsolation=recycle} a worker instead keeps one
+ * context and page, reset by {@link ContextRecycler} between scenarios, and falls back to a
+ * fresh context whenever the reset cannot be verified. All workers are closed by
+ * {@link #shutdown()} at the end of the suite.</p>
+ */
+public final class BrowserPool {
+
+    private static final Logger log = LoggerFactory.getLogger(BrowserPool.class);
+
+    private static final ThreadLocal<PlaywrightWorker> TL_WORKER = new ThreadLocal<>();
+    private static final ThreadLocal<Long> TL_LEASED_AT = new ThreadLocal<>();
+    private static final List<PlaywrightWorker> WORKERS = new CopyOnWriteArrayList<>();
+    private static final BlockingQueue<PlaywrightWorker> IDLE = new LinkedBlockingQueue<>();
+
+    private static final AtomicInteger LAUNCHES = new AtomicInteger();
+    private static final AtomicInteger ACQUISITIONS = new AtomicInteger();
+    private static final AtomicInteger WARM_HITS = new AtomicInteger();
+    private static final AtomicInteger WARM_MISSES = new AtomicInteger();
+    private static final AtomicInteger RECYCLED = new AtomicInteger();
+    private static final AtomicInteger RECYCLE_FALLBACKS = new AtomicInteger();
+    private static final AtomicLong SETUP_NANOS = new AtomicLong();
+    private static final AtomicLong TEARDOWN_NANOS = new AtomicLong();
+    private static final AtomicLong LEASE_WAIT_NANOS = new AtomicLong();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(BrowserPool::shutdown, "browser-pool-shutdown"));
+    }
+
+    private BrowserPool() {
+        // Utility class
+    }
+
+    /**
+     * Indicates whether pooled mode is enabled by configuration.
+     *
+     * @return {@code boolean} true if browsers are reused across scenarios
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.getBool("browserPool.enabled");
+    }
+
+    /**
+     * Indicates whether contexts are reset and reused instead of recreated per scenario.
+     *
+     * @return {@code boolean} true if {@code contextIsolation=recycle}
+     */
+    public static boolean isRecycleMode() {
+        return "recycle".equalsIgnoreCase(ConfigReader.get("contextIsolation"));
+    }
+
+    /**
+     * Returns the slot of the worker leased by the current scenario, leasing an idle worker
+     * first if the scenario does not hold one yet.
+     *
+     * @return {@link BrowserSlot} the leased worker's driver and browser
+     */
+    public static BrowserSlot acquire() {
+        return lease().slot();
+    }
+
+    /**
+     * Returns the slot of the worker leased by the current scenario without leasing one.
+     *
+     * @return {@link BrowserSlot} the leased worker's slot, or {@code null} if none is leased
+     */
+    public static BrowserSlot leasedSlot() {
+        PlaywrightWorker worker = TL_WORKER.get();
+        return (worker == null) ? null : worker.currentSlot();
+    }
+
+    /**
+     * Hands over a context on the leased worker's browser: the recycled one in recycle mode,
+     * otherwise a warmed one if available, otherwise a newly created one.
+     *
+     * @return {@link PreparedContext} the scenario's context and page
+     */
+    public static PreparedContext newContext() {
+        PlaywrightWorker worker = lease();
+        ACQUISITIONS.incrementAndGet();
+
+        long start = System.nanoTime();
+        try {
+            return worker.call(() -> takeContext(worker.slot()));
+        } finally {
+            SETUP_NANOS.addAndGet(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Creates a context seeded with a storage state on the leased worker's browser. The
+     * context is created on the worker's own thread, which owns the browser's connection.
+     *
+     * @param storageState {@link String} storage state JSON to seed the context with
+     * @return {@link PreparedContext} the new context and page, or {@code null} if the current
+     *         scenario has not leased a worker
+     */
+    public static PreparedContext newContext(String storageState) {
+        PlaywrightWorker worker = TL_WORKER.get();
+        if (worker == null) {
+            return null;
+        }
+
+        long start = System.nanoTime();
+        try {
+            return worker.call(() -> ContextFactory.create(worker.slot().browser(), storageState));
+        } finally {
+            SETUP_NANOS.addAndGet(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Takes back the finished scenario's context. In recycle mode it is reset on the worker's
+     * thread and kept for the next scenario; otherwise (or if the reset fails) it is not retained.
+     *
+     * @param prepared {@link PreparedContext} the finished scenario's context and page
+     * @return {@code boolean} true if the pool kept the context, false if the caller must close it
+     */
+    public static boolean release(PreparedContext prepared) {
+        PlaywrightWorker worker = TL_WORKER.get();
+        BrowserSlot slot = (worker == null) ? null : worker.currentSlot();
+        if (!isRecycleMode() || slot == null
+                || prepared.context() == null || prepared.context().browser() != slot.browser()) {
+            return false;
+        }
+
+        long start = System.nanoTime();
+        try {
+            return worker.call(() -> {
+                PreparedContext reset = ContextRecycler.reset(prepared);
+                if (reset == null) {
+                    RECYCLE_FALLBACKS.incrementAndGet();
+                    return false;
+                }
+
+                ContextFactory.startTracingIfEnabled(reset.context());
+                slot.keepRecycled(reset);
+                return true;
+            });
+        } finally {
+            TEARDOWN_NANOS.addAndGet(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Ends the current scenario's lease: queues the warm-context refill on the worker's thread
+     * and returns the worker to the idle set.
+     *
+     * <p>The refill runs after the scenario has finished, off its critical path. The next
+     * scenario to lease the worker is queued behind it on the same thread, so it never drives
+     * Playwright concurrently with the refill.</p>
+     *
+     * @param expectedMs {@code long} the scenario's recorded duration from previous runs, or
+     *                   {@code 0} if it has none, used by {@link ConcurrencyGovernor}
+     */
+    public static void releaseWorker(long expectedMs) {
+        PlaywrightWorker worker = TL_WORKER.get();
+        if (worker == null) {
+            return;
+        }
+        TL_WORKER.remove();
+        ConcurrencyGovernor.release(System.nanoTime() - TL_LEASED_AT.get(), expectedMs);
+        TL_LEASED_AT.remove();
+
+        if (!isRecycleMode()) {
+            worker.submit(() -> refill(worker));
+        }
+        IDLE.offer(worker);
+    }
+
+    /**
+     * Checks whether the given browser is owned by the pool (and must not be closed per scenario).
+     *
+     * @param browser {@link Browser} the browser to check
+     * @return {@code boolean} true if the browser belongs to a pooled worker
+     */
+    public static boolean owns(Browser browser) {
+        if (browser == null) {
+            return false;
+        }
+        return WORKERS.stream()
+                .map(PlaywrightWorker::currentSlot)
+                .anyMatch(slot -> slot != null && slot.browser() == browser);
+    }
+
+    /**
+     * Closes every worker (browser, Playwright instance and thread) and reports the launches saved.
+     *
+     * <p>Called once all scenarios have finished, so no worker is leased.</p>
+     */
+    public static synchronized void shutdown() {
+        if (WORKERS.isEmpty()) {
+            return;
+        }
+
+        int closed = WORKERS.size();
+        for (PlaywrightWorker worker : WORKERS) {
+            worker.shutdown();
+        }
+        WORKERS.clear();
+        IDLE.clear();
+
+        int launches = LAUNCHES.getAndSet(0);
+        int acquisitions = ACQUISITIONS.getAndSet(0);
+        int hits = WARM_HITS.getAndSet(0);
+        int misses = WARM_MISSES.getAndSet(0);
+        int recycled = RECYCLED.getAndSet(0);
+        int fallbacks = RECYCLE_FALLBACKS.getAndSet(0);
+        long setupMs = SETUP_NANOS.getAndSet(0) / 1_000_000;
+        long teardownMs = TEARDOWN_NANOS.getAndSet(0) / 1_000_000;
+        long leaseWaitMs = LEASE_WAIT_NANOS.getAndSet(0) / 1_000_000;
+
+        log.info("POOL shutdown: workers={}, scenarios={}, launches={}, launchesSaved={}, leaseWaitMs={}",
+                closed, acquisitions, launches, Math.max(0, acquisitions - launches), leaseWaitMs);
+        log.info("POOL warm contexts: depth={}, hits={}, misses={}", contextPoolDepth(), hits, misses);
+        log.info("POOL context isolation: mode={}, recycled={}, fallbacks={}, setupMs={}, resetMs={}, avgSetupMs={}",
+                isRecycleMode() ? "recycle" : "fresh", recycled, fallbacks, setupMs, teardownMs,
+                acquisitions == 0 ? 0 : (setupMs + teardownMs) / acquisitions);
+    }
+
+    /**
+     * Records a browser launch by a worker.
+     */
+    static void launched() {
+        LAUNCHES.incrementAndGet();
+    }
+
+    /**
+     * Returns the worker leased by the current scenario, leasing one if needed.
+     *
+     * <p>An idle worker is reused when available; otherwise a new one is started until
+     * {@code workers} exist, after which the scenario waits for one to be released.</p>
+     *
+     * @return {@link PlaywrightWorker} the leased worker
+     */
+    private static PlaywrightWorker lease() {
+        PlaywrightWorker worker = TL_WORKER.get();
+        if (worker != null) {
+            return worker;
+        }
+
+        long start = System.nanoTime();
+        boolean admitted = false;
+        try {
+            ConcurrencyGovernor.acquire();
+            admitted = true;
+            worker = IDLE.poll();
+            if (worker == null) {
+                worker = startWorkerIfBelowLimit();
+            }
+            if (worker == null) {
+                worker = IDLE.take();
+            }
+        } catch (InterruptedException e) {
+            if (admitted) {
+                ConcurrencyGovernor.release(0, 0);
+            }
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a Playwright worker", e);
+        }
+        long leasedAt = System.nanoTime();
+        LEASE_WAIT_NANOS.addAndGet(leasedAt - start);
+
+        TL_WORKER.set(worker);
+        TL_LEASED_AT.set(leasedAt);
+        log.debug("POOL {} leased by {}", worker.name(), Thread.currentThread().getName());
+        return worker;
+    }
+
+    private static synchronized PlaywrightWorker startWorkerIfBelowLimit() {
+        if (WORKERS.size() >= workerLimit()) {
+            return null;
+        }
+        PlaywrightWorker worker = new PlaywrightWorker(WORKERS.size() + 1);
+        WORKERS.add(worker);
+        return worker;
+    }
+
+    /**
+     * Reads the maximum number of workers (browsers) for the run.
+     *
+     * @return {@code int} the configured {@code workers}, else the parallelism chosen at startup,
+     * else the number of available processors
+     */
+    private static int workerLimit() {
+        String workers = ConfigReader.get("workers");
+        if (workers == null || workers.isBlank()) {
+            int chosen = ConcurrencyGovernor.initialLimit();
+            return (chosen > 0) ? chosen : Runtime.getRuntime().availableProcessors();
+        }
+        return Math.max(1, Integer.parseInt(workers.trim()));
+    }
+
+    private static PreparedContext takeContext(BrowserSlot slot) {
+        if (isRecycleMode()) {
+            PreparedContext recycled = slot.takeRecycled();
+            if (recycled != null) {
+                RECYCLED.incrementAndGet();
+                ContextFactory.applyTimeouts(recycled.context());
+                return recycled;
+            }
+        }
+
+        PreparedContext warm;
+        while ((warm = slot.warmContexts().pollFirst()) != null) {
+            if (isUsable(warm)) {
+                WARM_HITS.incrementAndGet();
+                log.debug("POOL warm context hit on {}", Thread.currentThread().getName());
+                return warm;
+            }
+            close(warm);
+        }
+
+        WARM_MISSES.incrementAndGet();
+        log.debug("POOL warm context miss on {}", Thread.currentThread().getName());
+        return ContextFactory.create(slot.browser());
+    }
+
+    /**
+     * Tops the worker's warm contexts up to {@code contextPool.depth}; runs on the worker's thread.
+     *
+     * @param worker {@link PlaywrightWorker} the worker to refill
+     */
+    private static void refill(PlaywrightWorker worker) {
+        BrowserSlot slot = worker.currentSlot();
+        if (slot == null) {
+            return;
+        }
+
+        int depth = contextPoolDepth();
+        try {
+            while (slot.warmContexts().size() < depth) {
+                slot.warmContexts().addLast(ContextFactory.create(slot.browser()));
+            }
+        } catch (Exception e) {
+            log.warn("POOL failed to prepare warm context: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Reads the number of warm contexts to keep per worker ({@code 0} disables warming).
+     *
+     * @return {@code int} the configured depth
+     */
+    private static int contextPoolDepth() {
+        String depth = ConfigReader.get("contextPool.depth");
+        return (depth == null || depth.isBlank()) ? 0 : Integer.parseInt(depth.trim());
+    }
+
+    /**
+     * Checks that a warm context has not been closed since it was prepared.
+     *
+     * @param prepared {@link PreparedContext} the warm context
+     * @return {@code boolean} true if it can be handed to a scenario
+     */
+    private static boolean isUsable(PreparedContext prepared) {
+        try {
+            return !prepared.page().isClosed() && prepared.context().browser().isConnected();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Closes a pooled context that will not be handed out, ignoring errors.
+     *
+     * @param prepared {@link PreparedContext} the context to close
+     */
+    private static void close(PreparedContext prepared) {
+        try {
+            prepared.context().close();
+        } catch (Exception ignored) {
+            // No action required
+        }
+    }
+
+    /**
+     * Closes a slot, ignoring errors during shutdown. Must run on the owning worker's thread.
+     *
+     * @param slot {@link BrowserSlot} the slot to close
+     */
+    static void close(BrowserSlot slot) {
+        PreparedContext recycled = slot.takeRecycled();
+        if (recycled != null) {
+            close(recycled);
+        }
+
+        PreparedContext warm;
+        while ((warm = slot.warmContexts().pollFirst()) != null) {
+            close(warm);
+        }
+        try {
+            slot.browser().close();
+        } catch (Exception ignored) {
+            // No action required
+        }
+        try {
+            slot.playwright().close();
+        } catch (Exception ignored) {
+            // No action required
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package driver;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.Playwright;
+
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * A long-lived Playwright driver and browser owned by one worker, together with the
+ * contexts that have been prepared on it ahead of time.
+ */
+public final class BrowserSlot {
+
+    private final Playwright playwright;
+    private final Browser browser;
+    private final Deque<PreparedContext> warmContexts = new ConcurrentLinkedDeque<>();
+    private volatile PreparedContext recycled;
+
+    /**
+     * @param playwright {@link Playwright} the Playwright instance (one Node driver process)
+     * @param browser {@link Browser} the browser launched from {@code playwright}
+     */
+    public BrowserSlot(Playwright playwright, Browser browser) {
+        this.playwright = playwright;
+        this.browser = browser;
+    }
+
+    public Playwright playwright() {
+        return playwright;
+    }
+
+    public Browser browser() {
+        return browser;
+    }
+
+    /**
+     * Contexts prepared by {@link BrowserPool} between scenarios and not yet handed to a scenario.
+     *
+     * @return {@link Deque} the warm contexts, oldest first
+     */
+    Deque<PreparedContext> warmContexts() {
+        return warmContexts;
+    }
+
+    /**
+     * Takes the context kept by {@link BrowserPool#release(PreparedContext)} in recycle mode.
+     *
+     * @return {@link PreparedContext} the reset context, or {@code null} if none is kept
+     */
+    PreparedContext takeRecycled() {
+        PreparedContext context = recycled;
+        recycled = null;
+        return context;
+    }
+
+    void keepRecycled(PreparedContext context) {
+        recycled = context;
+    }
+}
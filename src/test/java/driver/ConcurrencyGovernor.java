@@ -0,0 +1,177 @@
+package driver;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Caps how many scenarios may hold a Playwright worker at once and lowers that cap at runtime
+ * when the host is under pressure.
+ *
+ * <p>The initial limit comes from the parallelism chosen at startup. The limit drops by one
+ * when the host starts swapping or when scenarios slow down, and recovers by one after a
+ * sustained period without pressure. A scenario's slowdown is its duration divided by its own
+ * recorded duration from previous runs, so a long scenario scheduled after short ones does
+ * not read as pressure; scenarios without history only feed the swap check. The limit drops
+ * when the recent slowdown rises to more than twice the run's baseline slowdown. After a
+ * reduction, slowdown is ignored until as many scenarios as the new limit have completed, so
+ * the scenarios that were already running under the old limit cannot drive it down again.</p>
+ *
+ * <p>Places are taken when a scenario leases a worker from {@link BrowserPool}, so throttling
+ * applies only in pooled mode ({@code browserPool.enabled=true}). Without the pool each
+ * scenario launches its own browser and concurrency is fixed by the runner's parallelism.</p>
+ */
+public final class ConcurrencyGovernor {
+
+    private static final Logger log = LoggerFactory.getLogger(ConcurrencyGovernor.class);
+
+    private static final long SWAP_SAMPLE_INTERVAL_NANOS = 5_000_000_000L;
+    private static final long SWAP_PAGES_THRESHOLD = 256;
+    private static final double SLOWDOWN_SPIKE_RATIO = 2.0;
+    private static final int WARMUP_SCENARIOS = 10;
+    private static final int RECOVERY_SCENARIOS = 10;
+
+    private static int initialLimit;
+    private static int limit = Integer.MAX_VALUE;
+    private static int active;
+
+    private static double fastSlowdown;
+    private static double baselineSlowdown;
+    private static int samples;
+    private static int calmSamples;
+    private static int cooldownSamples;
+
+    private static long lastSwapSampleNanos;
+    private static long lastSwapOut = -1;
+
+    private ConcurrencyGovernor() {
+        // Utility class
+    }
+
+    /**
+     * Sets the starting limit chosen for this run.
+     *
+     * @param workers {@code int} the initial number of concurrent scenarios
+     */
+    public static synchronized void start(int workers) {
+        initialLimit = Math.max(1, workers);
+        limit = initialLimit;
+        samples = 0;
+        calmSamples = 0;
+        cooldownSamples = 0;
+        log.info("GOVERNOR initial concurrency limit={}", limit);
+    }
+
+    /**
+     * Gets the starting limit chosen for this run.
+     *
+     * @return {@code int} the initial limit, or {@code 0} if none was set
+     */
+    public static synchronized int initialLimit() {
+        return initialLimit;
+    }
+
+    /**
+     * Waits until the number of active scenarios is below the current limit, then takes a place.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    static synchronized void acquire() throws InterruptedException {
+        while (active >= limit) {
+            ConcurrencyGovernor.class.wait();
+        }
+        active++;
+    }
+
+    /**
+     * Gives back a place and feeds the scenario's slowdown into the pressure check.
+     *
+     * @param scenarioNanos {@code long} how long the scenario held its place
+     * @param expectedMs {@code long} the scenario's recorded duration, or {@code 0} if it has none
+     */
+    static synchronized void release(long scenarioNanos, long expectedMs) {
+        active = Math.max(0, active - 1);
+        record(scenarioNanos, expectedMs);
+        ConcurrencyGovernor.class.notifyAll();
+    }
+
+    private static void record(long scenarioNanos, long expectedMs) {
+        if (initialLimit == 0 || scenarioNanos <= 0) {
+            return;
+        }
+
+        if (expectedMs > 0) {
+            double slowdown = scenarioNanos / 1_000_000.0 / expectedMs;
+            samples++;
+            if (samples == 1) {
+                fastSlowdown = slowdown;
+                baselineSlowdown = slowdown;
+            } else {
+                fastSlowdown = 0.3 * slowdown + 0.7 * fastSlowdown;
+                baselineSlowdown = 0.05 * slowdown + 0.95 * baselineSlowdown;
+            }
+        }
+
+        boolean swapping = isSwapping();
+        boolean slow = samples > WARMUP_SCENARIOS && fastSlowdown > SLOWDOWN_SPIKE_RATIO * baselineSlowdown;
+        boolean slowdownSpike = slow && cooldownSamples == 0;
+        if (cooldownSamples > 0) {
+            cooldownSamples--;
+        }
+
+        if ((swapping || slowdownSpike) && limit > 1) {
+            limit--;
+            calmSamples = 0;
+            cooldownSamples = limit;
+            log.warn("GOVERNOR reducing concurrency to {} (swapping={}, recentSlowdown={}, baselineSlowdown={})",
+                    limit, swapping, String.format("%.2f", fastSlowdown), String.format("%.2f", baselineSlowdown));
+            return;
+        }
+
+        if (!swapping && !slow && limit < initialLimit && ++calmSamples >= RECOVERY_SCENARIOS) {
+            limit++;
+            calmSamples = 0;
+            log.info("GOVERNOR restoring concurrency to {}", limit);
+        }
+    }
+
+    /**
+     * Detects swap-out activity since the previous sample (Linux {@code /proc/vmstat}, falling
+     * back to a drop in free swap reported by the JVM).
+     *
+     * @return {@code boolean} true if the host swapped out a significant number of pages
+     */
+    private static boolean isSwapping() {
+        long now = System.nanoTime();
+        if (now - lastSwapSampleNanos < SWAP_SAMPLE_INTERVAL_NANOS) {
+            return false;
+        }
+        lastSwapSampleNanos = now;
+
+        long swapOut = readSwapOut();
+        boolean swapping = lastSwapOut >= 0 && swapOut - lastSwapOut > SWAP_PAGES_THRESHOLD;
+        lastSwapOut = swapOut;
+        return swapping;
+    }
+
+    private static long readSwapOut() {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc/vmstat"))) {
+                if (line.startsWith("pswpout ")) {
+                    return Long.parseLong(line.substring("pswpout ".length()).trim());
+                }
+            }
+        } catch (Exception ignored) {
+            // Not Linux; fall back to the JVM's view of swap
+        }
+
+        if (ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.OperatingSystemMXBean os) {
+            // Pages (4 KiB) of swap in use, so growth reads like swap-out activity
+            return (os.getTotalSwapSpaceSize() - os.getFreeSwapSpaceSize()) / 4096;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,107 @@
+package driver;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Tracing;
+import config.ConfigReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Builds scenario-ready browser contexts.
+ *
+ * <p>Applies default timeouts, registered init scripts and (when enabled) tracing, so that
+ * a context created ahead of time is indistinguishable from one created at scenario start.</p>
+ */
+public final class ContextFactory {
+
+    private static final Logger log = LoggerFactory.getLogger(ContextFactory.class);
+
+    private static final List<String> INIT_SCRIPTS = new CopyOnWriteArrayList<>();
+
+    private ContextFactory() {
+        // Utility class
+    }
+
+    /**
+     * Registers a script to be added to every context created from now on.
+     *
+     * @param script {@link String} the JavaScript source evaluated in every new document
+     */
+    public static void registerInitScript(String script) {
+        if (!INIT_SCRIPTS.contains(script)) {
+            INIT_SCRIPTS.add(script);
+        }
+    }
+
+    /**
+     * Creates a new context and page on the given browser.
+     *
+     * @param browser {@link Browser} the browser to create the context on
+     * @return {@link PreparedContext} the configured context and page
+     */
+    public static PreparedContext create(Browser browser) {
+        return create(browser, null);
+    }
+
+    /**
+     * Creates a new context seeded with cookies and local storage from a saved storage state.
+     *
+     * @param browser {@link Browser} the browser to create the context on
+     * @param storageState {@link String} the storage state JSON, or {@code null} for an empty context
+     * @return {@link PreparedContext} the configured context and page
+     */
+    public static PreparedContext create(Browser browser, String storageState) {
+        Browser.NewContextOptions options = new Browser.NewContextOptions();
+        if (storageState != null) {
+            options.setStorageState(storageState);
+        }
+
+        BrowserContext context = browser.newContext(options);
+        applyTimeouts(context);
+
+        for (String script : INIT_SCRIPTS) {
+            context.addInitScript(script);
+        }
+
+        Page page = context.newPage();
+
+        startTracingIfEnabled(context);
+
+        return new PreparedContext(context, page);
+    }
+
+    /**
+     * Applies the configured action and navigation timeouts ({@code timeoutMs}) to a context,
+     * including a recycled one whose previous scenario may have changed them.
+     *
+     * @param context {@link BrowserContext} the browser context
+     */
+    public static void applyTimeouts(BrowserContext context) {
+        int timeoutMs = ConfigReader.getInt("timeoutMs");
+        context.setDefaultTimeout(timeoutMs);
+        context.setDefaultNavigationTimeout(timeoutMs);
+    }
+
+    /**
+     * Starts Playwright tracing for the given {@link BrowserContext} if enabled by configuration.
+     *
+     * @param context {@link BrowserContext} the browser context to start tracing for
+     */
+    public static void startTracingIfEnabled(BrowserContext context) {
+        if (!ConfigReader.getBool("traceOnFailure")) {
+            return;
+        }
+
+        context.tracing().start(new Tracing.StartOptions()
+                .setScreenshots(true)
+                .setSnapshots(true)
+                .setSources(true));
+
+        log.info("TRACE started");
+    }
+}
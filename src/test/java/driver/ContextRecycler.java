@@ -0,0 +1,102 @@
+package driver;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Resets a used browser context so the next scenario can reuse it
+ * ({@code contextIsolation=recycle}).
+ *
+ * <p>Isolation for the functional features only needs cookies, local storage and session
+ * storage cleared. Session storage belongs to a tab and cannot be listed per origin, so the
+ * used page is replaced by a fresh one, which starts with empty session storage for every
+ * origin. Local storage of the app's current origin is cleared in place; if any origin still
+ * has local storage afterwards, the context is discarded. Init scripts cannot be removed
+ * through Playwright, so only the scripts registered with {@link ContextFactory} are expected
+ * on a recycled context.</p>
+ */
+final class ContextRecycler {
+
+    private static final Logger log = LoggerFactory.getLogger(ContextRecycler.class);
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private ContextRecycler() {
+        // Utility class
+    }
+
+    /**
+     * Resets the context, replaces its page and verifies the result.
+     *
+     * @param prepared {@link PreparedContext} the context and page used by the finished scenario
+     * @return {@link PreparedContext} the clean context with a fresh page, or {@code null} if
+     *         the context cannot be reused and must be closed
+     */
+    static PreparedContext reset(PreparedContext prepared) {
+        BrowserContext context = prepared.context();
+        Page page = prepared.page();
+
+        try {
+            if (page.isClosed()) {
+                return null;
+            }
+
+            page.unrouteAll();
+            context.unrouteAll();
+
+            // Local storage is per origin, so clear it before leaving the app's origin
+            if (page.url().startsWith("http")) {
+                page.evaluate("() => { try { localStorage.clear(); } catch (e) {} }");
+            }
+
+            context.clearCookies();
+            context.clearPermissions();
+
+            Page fresh = context.newPage();
+            for (Page other : context.pages()) {
+                if (other != fresh) {
+                    other.close();
+                }
+            }
+
+            PreparedContext reset = new PreparedContext(context, fresh);
+            return verify(reset) ? reset : null;
+
+        } catch (Exception e) {
+            log.warn("RECYCLE reset failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Verifies that no cookies, local storage in any origin, extra pages or navigation state
+     * survived the reset.
+     *
+     * @param prepared {@link PreparedContext} the reset context and page
+     * @return {@code boolean} true if the context is clean
+     */
+    private static boolean verify(PreparedContext prepared) throws Exception {
+        BrowserContext context = prepared.context();
+
+        JsonNode state = MAPPER.readTree(context.storageState());
+        boolean noCookies = state.path("cookies").isEmpty();
+        boolean noStorage = true;
+        for (JsonNode origin : state.path("origins")) {
+            noStorage &= origin.path("localStorage").isEmpty();
+        }
+
+        boolean singlePage = context.pages().size() == 1;
+        boolean blank = "about:blank".equals(prepared.page().url());
+
+        boolean clean = noCookies && noStorage && singlePage && blank;
+        if (!clean) {
+            log.warn("RECYCLE verification failed (cookies={}, storage={}, singlePage={}, blank={})",
+                    !noCookies, !noStorage, singlePage, blank);
+        }
+        return clean;
+    }
+}
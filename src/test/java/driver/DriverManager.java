@@ -9,7 +9,9 @@ import com.microsoft.playwright.Playwright;
  * Holds Playwright objects per thread using {@link ThreadLocal} to enable
  * scenario-based isolation and parallel execution.
  *
- * <p>Each scenario should have its own {@link Page} and {@link BrowserContext}.</p>
+ * <p>Each scenario should have its own {@link Page} and {@link BrowserContext}. In pooled mode
+ * the {@link Browser} and {@link Playwright} resolve to the worker leased from
+ * {@link BrowserPool} by the running scenario, not to whichever thread set them.</p>
  */
 public final class DriverManager {
 
@@ -37,6 +39,36 @@ public final class DriverManager {
         TL_PAGE.set(page);
     }
 
+    /**
+     * Replaces the current thread's context and page, closing the previous ones.
+     *
+     * <p>Used when a scenario needs a context created with different options
+     * (e.g. seeded with an authenticated storage state).</p>
+     *
+     * @param prepared {@link PreparedContext} the new context and page
+     */
+    public static void replaceContext(PreparedContext prepared) {
+        safeClose(TL_PAGE.get());
+        safeClose(TL_CONTEXT.get());
+
+        TL_CONTEXT.set(prepared.context());
+        TL_PAGE.set(prepared.page());
+    }
+
+    /**
+     * Creates a context and page seeded with a storage state on the current thread's browser.
+     *
+     * <p>In pooled mode the context is created by {@link BrowserPool} on the thread of the
+     * leased worker that owns the browser.</p>
+     *
+     * @param storageState {@link String} storage state JSON to seed the context with
+     * @return {@link PreparedContext} the new context and page
+     */
+    public static PreparedContext newContext(String storageState) {
+        PreparedContext pooled = BrowserPool.newContext(storageState);
+        return (pooled != null) ? pooled : ContextFactory.create(TL_BROWSER.get(), storageState);
+    }
+
     /**
      * Gets the current thread's Playwright page.
      *
@@ -61,7 +93,8 @@ public final class DriverManager {
      * @return {@link Browser} the current browser, or {@code null} if not initialised
      */
     public static Browser browser() {
-        return TL_BROWSER.get();
+        BrowserSlot slot = BrowserPool.leasedSlot();
+        return (slot != null) ? slot.browser() : TL_BROWSER.get();
     }
 
     /**
@@ -70,19 +103,28 @@ public final class DriverManager {
      * @return {@link Playwright} the current Playwright instance, or {@code null} if not initialised
      */
     public static Playwright playwright() {
-        return TL_PLAYWRIGHT.get();
+        BrowserSlot slot = BrowserPool.leasedSlot();
+        return (slot != null) ? slot.playwright() : TL_PLAYWRIGHT.get();
     }
 
     /**
      * Closes all Playwright resources for the current thread and clears {@link ThreadLocal} state.
      *
-     * <p>Resources are closed in reverse order: Page -> Context -> Browser -> Playwright.</p>
+     * <p>Resources are closed in reverse order: Page -> Context -> Browser -> Playwright.
+     * A browser owned by {@link BrowserPool} is left running (with its Playwright instance)
+     * for the next scenario on this worker, and in recycle mode the pool keeps the context
+     * and page as well.</p>
      */
     public static void cleanup() {
-        safeClose(TL_PAGE.get());
-        safeClose(TL_CONTEXT.get());
-        safeClose(TL_BROWSER.get());
-        safeClose(TL_PLAYWRIGHT.get());
+        if (!BrowserPool.release(new PreparedContext(TL_CONTEXT.get(), TL_PAGE.get()))) {
+            safeClose(TL_PAGE.get());
+            safeClose(TL_CONTEXT.get());
+        }
+
+        if (!BrowserPool.owns(TL_BROWSER.get())) {
+            safeClose(TL_BROWSER.get());
+            safeClose(TL_PLAYWRIGHT.get());
+        }
 
         TL_PAGE.remove();
         TL_CONTEXT.remove();
@@ -0,0 +1,147 @@
+package driver;
+
+import com.microsoft.playwright.Playwright;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A dedicated, long-lived thread that owns one {@link Playwright} instance and its browser.
+ *
+ * <p>Playwright objects are not thread-safe. The worker's thread creates, warms, resets and
+ * closes everything built on its Playwright instance; a scenario that has leased the worker
+ * from {@link BrowserPool} drives its page directly, which is safe because the lease is
+ * exclusive and every task the worker runs for it completes before the call returns.</p>
+ */
+final class PlaywrightWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(PlaywrightWorker.class);
+
+    private final int id;
+    private final ExecutorService executor;
+    private volatile Thread thread;
+    private volatile BrowserSlot slot;
+
+    PlaywrightWorker(int id) {
+        this.id = id;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread t = new Thread(runnable, "playwright-worker-" + id);
+            t.setDaemon(true);
+            thread = t;
+            return t;
+        });
+    }
+
+    int id() {
+        return id;
+    }
+
+    /**
+     * Returns the worker's slot, launching Playwright and the browser on the worker's thread
+     * on first use (or again if the previous browser has disconnected).
+     *
+     * @return {@link BrowserSlot} the worker's driver and browser
+     */
+    BrowserSlot slot() {
+        return call(() -> {
+            if (slot != null && slot.browser().isConnected()) {
+                return slot;
+            }
+
+            if (slot != null) {
+                log.warn("POOL browser disconnected on {}, relaunching", Thread.currentThread().getName());
+                BrowserPool.close(slot);
+            }
+
+            Playwright playwright = Playwright.create();
+            slot = new BrowserSlot(playwright, BrowserFactory.launch(playwright));
+            BrowserPool.launched();
+
+            log.info("POOL launched browser for worker {}", Thread.currentThread().getName());
+            return slot;
+        });
+    }
+
+    /**
+     * Checks whether the worker currently holds a launched slot, without dispatching to it.
+     *
+     * @return {@link BrowserSlot} the slot, or {@code null} if none has been launched
+     */
+    BrowserSlot currentSlot() {
+        return slot;
+    }
+
+    /**
+     * Runs a task on the worker's thread and waits for its result.
+     *
+     * <p>Calls made from the worker's own thread run inline, so tasks may nest.</p>
+     *
+     * @param task {@link Callable} the task
+     * @return the task's result
+     */
+    <T> T call(Callable<T> task) {
+        try {
+            if (Thread.currentThread() == thread) {
+                return task.call();
+            }
+            return executor.submit(task).get();
+        } catch (ExecutionException e) {
+            throw propagate(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + name(), e);
+        } catch (Exception e) {
+            throw propagate(e);
+        }
+    }
+
+    /**
+     * Queues a task on the worker's thread without waiting for it.
+     *
+     * <p>Tasks run in submission order, so a later {@link #call(Callable)} observes its effects.</p>
+     *
+     * @param task {@link Runnable} the task
+     * @return {@link Future} completion of the task
+     */
+    Future<?> submit(Runnable task) {
+        return executor.submit(task);
+    }
+
+    /**
+     * Closes the slot on the worker's thread and stops the thread.
+     */
+    void shutdown() {
+        try {
+            executor.submit(() -> {
+                if (slot != null) {
+                    BrowserPool.close(slot);
+                    slot = null;
+                }
+            }).get(30, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            log.warn("POOL {} did not shut down cleanly: {}", name(), e.getMessage());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    String name() {
+        return "playwright-worker-" + id;
+    }
+
+    private static RuntimeException propagate(Throwable t) {
+        if (t instanceof RuntimeException re) {
+            return re;
+        }
+        if (t instanceof Error err) {
+            throw err;
+        }
+        return new IllegalStateException(t);
+    }
+}
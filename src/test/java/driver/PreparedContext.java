@@ -0,0 +1,13 @@
+package driver;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+
+/**
+ * A browser context with its page, fully configured and ready to be handed to a scenario.
+ *
+ * @param context {@link BrowserContext} the configured browser context
+ * @param page {@link Page} the page opened in {@code context}
+ */
+public record PreparedContext(BrowserContext context, Page page) {
+}
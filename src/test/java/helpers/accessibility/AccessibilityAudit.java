@@ -0,0 +1,139 @@
+package helpers.accessibility;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microsoft.playwright.Page;
+import driver.DriverManager;
+import helpers.ui.DomVersion;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Runs the custom (non-axe) accessibility checks in a single pass over the DOM.
+ *
+ * <p>The report is cached per page together with the document's {@link DomVersion}. Each later
+ * call is a single round trip that returns nothing when the version is unchanged, so the
+ * assertion classes can read the cached report instead of querying the page once per check.
+ * Keyboard checks live in {@link KeyboardTraversal}.</p>
+ */
+public final class AccessibilityAudit {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final Map<Page, AccessibilityAuditReport> CACHE = new WeakHashMap<>();
+
+    private static final String AUDIT = """
+            (knownVersion) => {
+              const version = ("""
+            + DomVersion.READ
+            + """
+              )();
+              if (version === knownVersion) {
+                return null;
+              }
+
+              const selectorOf = ("""
+            + DomVersion.SELECTOR_OF
+            + """
+              );
+              const isVisible = el => !!(el.offsetWidth || el.offsetHeight || el.getClientRects().length)
+                && window.getComputedStyle(el).visibility !== 'hidden';
+              const hasAriaLabel = el => el.hasAttribute('aria-label') || el.hasAttribute('aria-labelledby');
+
+              const report = {
+                domVersion: version,
+                title: document.title,
+                h1Count: 0,
+                h1Visible: false,
+                h1Text: '',
+                mainCount: 0,
+                headerCount: 0,
+                landmarkCount: 0,
+                dateOfBirthFieldsets: 0,
+                emailFieldLabelled: false,
+                unnamedInteractiveElements: [],
+                unannouncedSections: [],
+                imagesWithoutAlt: [],
+                unlabelledFormFields: []
+              };
+
+              let email = null;
+              for (const el of document.querySelectorAll('*')) {
+                const tag = el.tagName;
+
+                if (tag === 'H1') {
+                  if (report.h1Count++ === 0) {
+                    report.h1Visible = isVisible(el);
+                    report.h1Text = el.innerText;
+                  }
+                }
+                if (tag === 'MAIN') report.mainCount++;
+                if (tag === 'HEADER') report.headerCount++;
+                if (tag === 'HEADER' || tag === 'NAV' || tag === 'MAIN' || tag === 'FOOTER') report.landmarkCount++;
+
+                const isField = tag === 'INPUT' || tag === 'SELECT' || tag === 'TEXTAREA';
+                if (isField || tag === 'BUTTON' || tag === 'A') {
+                  const name = el.getAttribute('aria-label') || el.getAttribute('aria-labelledby') || el.textContent?.trim();
+                  if (!name) report.unnamedInteractiveElements.push(selectorOf(el));
+                }
+                if (isField) {
+                  if (!(el.labels && el.labels.length > 0) && !hasAriaLabel(el)) {
+                    report.unlabelledFormFields.push(selectorOf(el));
+                  }
+                  if (!email && (el.matches('input[type="email"]') || el.id === 'email')) email = el;
+                }
+                if (tag === 'SECTION' && el.closest('main')
+                    && !el.hasAttribute('aria-labelledby') && !el.querySelector('h2, h3')) {
+                  report.unannouncedSections.push(selectorOf(el));
+                }
+                if (tag === 'IMG' && el.getAttribute('alt') === null) {
+                  report.imagesWithoutAlt.push(selectorOf(el));
+                }
+                if (tag === 'FIELDSET') {
+                  const legend = el.querySelector('legend');
+                  const text = legend ? legend.innerText.toLowerCase() : '';
+                  if (text.includes('birth')) report.dateOfBirthFieldsets++;
+                }
+              }
+
+              report.emailFieldLabelled = !!email && ((email.labels && email.labels.length > 0) || hasAriaLabel(email));
+
+              return JSON.stringify(report);
+            }
+            """;
+
+    private AccessibilityAudit() {}
+
+    /**
+     * Gets the audit report for the current page's DOM, re-running the audit only if the DOM
+     * changed since the cached report.
+     *
+     * @return {@link AccessibilityAuditReport} the report for the current DOM
+     */
+    public static AccessibilityAuditReport current() {
+        Page page = DriverManager.page();
+        if (page == null) {
+            throw new IllegalStateException("Playwright Page is not initialised.");
+        }
+
+        AccessibilityAuditReport cached;
+        synchronized (CACHE) {
+            cached = CACHE.get(page);
+        }
+
+        String json = (String) page.evaluate(AUDIT, cached == null ? null : cached.domVersion());
+        if (json == null) {
+            return cached;
+        }
+
+        try {
+            AccessibilityAuditReport report = MAPPER.readValue(json, AccessibilityAuditReport.class);
+            synchronized (CACHE) {
+                CACHE.put(page, report);
+            }
+            return report;
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to parse accessibility audit report", e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package helpers.accessibility;
+
+import java.util.List;
+
+/**
+ * Result of one {@link AccessibilityAudit} pass over the DOM.
+ *
+ * <p>List-valued checks hold CSS selectors of the offending elements.</p>
+ */
+public record AccessibilityAuditReport(
+        String domVersion,
+        String title,
+        int h1Count,
+        boolean h1Visible,
+        String h1Text,
+        int mainCount,
+        int headerCount,
+        int landmarkCount,
+        int dateOfBirthFieldsets,
+        boolean emailFieldLabelled,
+        List<String> unnamedInteractiveElements,
+        List<String> unannouncedSections,
+        List<String> imagesWithoutAlt,
+        List<String> unlabelledFormFields
+) {}
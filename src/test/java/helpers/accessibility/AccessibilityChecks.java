@@ -3,21 +3,67 @@ package helpers.accessibility;
 import com.microsoft.playwright.Page;
 import driver.DriverManager;
 
+import java.util.List;
 import java.util.Map;
 
 public final class AccessibilityChecks {
 
     private AccessibilityChecks() {}
 
+    /**
+     * Scans the current page. With {@code accessibility.scanMode=incremental} only regions that
+     * changed since the previous scan of the same document are audited.
+     *
+     * @return {@link AxeResult} the violations found
+     */
     public static AxeResult scanFullPage() {
         Page page = DriverManager.page();
-        Map<String, Object> raw = AxeScanExecutor.runFullScan(page);
-        return AxeResultParser.parse(raw);
+        if (DomChangeTracker.isEnabled()) {
+            return AxeScanExecutor.parse(AxeScanExecutor.runIncrementalScan(page));
+        }
+        return AxeResultCache.getOrScan(page, AxeScanOptions.current(),
+                () -> AxeRuleSharding.isEnabled()
+                        ? AxeRuleSharding.scan(page, AxeScanOptions.current().tags())
+                        : AxeScanExecutor.parse(AxeScanExecutor.runFullScan(page)));
     }
 
     public static AxeResult scanSection(String cssSelector) {
         Page page = DriverManager.page();
-        Map<String, Object> raw = AxeScanExecutor.runScopedScan(page, cssSelector);
-        return AxeResultParser.parse(raw);
+        return AxeScanExecutor.parse(AxeScanExecutor.runScopedScan(page, cssSelector));
+    }
+
+    /**
+     * Scans several regions of the current page in one axe run.
+     *
+     * @param includeSelectors {@link List} CSS selectors of the regions; every match is scanned
+     * @param excludeSelectors {@link List} CSS selectors of elements to leave out
+     * @return {@link Map} the violations found in each region, keyed by its include selector
+     */
+    public static Map<String, AxeResult> scanRegions(List<String> includeSelectors, List<String> excludeSelectors) {
+        Page page = DriverManager.page();
+        return AxeScanExecutor.parseByRegion(
+                AxeScanExecutor.runScopedScan(page, includeSelectors, excludeSelectors), includeSelectors);
+    }
+
+    /**
+     * Registers the init scripts accessibility scanning needs for the configured modes.
+     * Called before each scenario's context is created.
+     */
+    public static void registerInitScripts() {
+        AxeScriptLoader.registerInitScriptIfEnabled();
+        DomChangeTracker.registerInitScriptIfEnabled();
+    }
+
+    /**
+     * Logs run-wide axe statistics (injections, payload sizes, parse time, cache hit rate)
+     * and saves the result cache (if persistence is configured) and the per-rule and per-page
+     * timing export.
+     */
+    public static void logSummary() {
+        AxeScriptLoader.logSummary();
+        AxeScanExecutor.logSummary();
+        AxeResultCache.logSummaryAndSave();
+        AxeRuleSharding.saveTimings();
+        AxeTimingReport.writeAndLog();
     }
 }
@@ -0,0 +1,361 @@
+package helpers.accessibility;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+import com.microsoft.playwright.Response;
+import config.ConfigReader;
+import driver.BrowserFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Crawls the site from {@code baseUrl} and runs a full axe scan on every unique route.
+ *
+ * <p>Routes are discovered from same-origin {@code a[href]}/{@code area[href]} links and GET
+ * forms (submitted with their default values), up to {@code crawl.maxDepth} hops from the start
+ * page and {@code crawl.maxPages} pages in total. URLs matching any {@code crawl.denyList}
+ * pattern are never visited. A URL is visited once per normalised form (scheme and host lower
+ * case, default port, fragment and trailing slash dropped, query parameters sorted), and a page
+ * whose serialized DOM (every element, attribute and text node, as fingerprinted by
+ * {@link AxeResultCache}) matches one already scanned is recorded as a duplicate instead of being
+ * scanned again.</p>
+ *
+ * <p>{@code crawl.concurrency} threads each own a Playwright, headless browser and context
+ * (Playwright objects are not thread-safe) and pull routes from a shared frontier. Each page's
+ * outcome is appended to {@code crawl.reportFile} as one JSON line as soon as it completes, and
+ * the results are kept in an {@link AxeResultStore} for the per-rule summary logged at the end.
+ * The crawl fails if no page could be visited or any thread stopped abnormally (e.g. its
+ * browser failed to launch), since its result would otherwise look like a clean site.</p>
+ */
+public final class AccessibilityCrawler {
+
+    private static final Logger log = LoggerFactory.getLogger(AccessibilityCrawler.class);
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final String DISCOVER = """
+            () => {
+              const links = Array.from(document.querySelectorAll('a[href], area[href]'))
+                .map(a => a.href);
+
+              const forms = Array.from(document.forms)
+                .filter(f => (f.getAttribute('method') || 'get').toLowerCase() === 'get')
+                .map(f => {
+                  const url = new URL(f.action || location.href, location.href);
+                  url.search = new URLSearchParams(new FormData(f)).toString();
+                  return url.href;
+                });
+
+              const fingerprint = ("""
+            + AxeResultCache.FINGERPRINT
+            + """
+              )();
+
+              return { links, forms, fingerprint };
+            }
+            """;
+
+    private final URI base;
+    private final int maxDepth;
+    private final int maxPages;
+    private final int concurrency;
+    private final List<Pattern> denyList;
+    private final Path reportFile;
+
+    private final BlockingQueue<Route> frontier = new LinkedBlockingQueue<>();
+    private final Set<String> seenUrls = ConcurrentHashMap.newKeySet();
+    private final Set<String> seenFingerprints = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger visited = new AtomicInteger();
+    private final AtomicInteger scanned = new AtomicInteger();
+    private final AtomicInteger duplicates = new AtomicInteger();
+    private final AtomicInteger abnormalStops = new AtomicInteger();
+    private final List<String> failures = new CopyOnWriteArrayList<>();
+    private final AxeResultStore results;
+
+    private BufferedWriter report;
+
+    /**
+     * @param base {@link URI} the start page; only URLs of its origin are crawled
+     * @param maxDepth {@code int} most link hops from the start page
+     * @param maxPages {@code int} most distinct URLs visited
+     * @param concurrency {@code int} number of crawler threads
+     * @param denyList {@link List} patterns of URLs never visited
+     * @param reportFile {@link Path} the NDJSON report written during the crawl
+     * @param htmlMaxChars {@code int} longest HTML snippet kept per failing node
+     */
+    AccessibilityCrawler(URI base, int maxDepth, int maxPages, int concurrency, List<Pattern> denyList,
+                         Path reportFile, int htmlMaxChars) {
+        this.base = base;
+        this.maxDepth = maxDepth;
+        this.maxPages = maxPages;
+        this.concurrency = Math.max(1, concurrency);
+        this.denyList = denyList;
+        this.reportFile = reportFile;
+        this.results = new AxeResultStore(htmlMaxChars);
+    }
+
+    private static AccessibilityCrawler fromConfig() {
+        String baseUrl = ConfigReader.get("baseUrl");
+        if (baseUrl == null || baseUrl.isBlank()) {
+            throw new IllegalStateException("Missing required configuration property: baseUrl");
+        }
+
+        return new AccessibilityCrawler(
+                URI.create(baseUrl),
+                ConfigReader.getInt("crawl.maxDepth"),
+                ConfigReader.getInt("crawl.maxPages"),
+                ConfigReader.getInt("crawl.concurrency"),
+                Arrays.stream(ConfigReader.get("crawl.denyList").split(","))
+                        .map(String::trim)
+                        .filter(s -> !s.isEmpty())
+                        .map(Pattern::compile)
+                        .toList(),
+                Path.of(ConfigReader.get("crawl.reportFile")),
+                ConfigReader.getInt("crawl.htmlMaxChars"));
+    }
+
+    /**
+     * Crawls the site and scans every unique route.
+     *
+     * @return {@link List} policy failures, one per failing page, empty if none
+     * @throws IllegalStateException if no page was visited or a crawler thread stopped abnormally
+     */
+    public static List<String> run() {
+        return fromConfig().crawl();
+    }
+
+    List<String> crawl() {
+        long start = System.nanoTime();
+
+        try {
+            Files.createDirectories(reportFile.toAbsolutePath().getParent());
+            report = Files.newBufferedWriter(reportFile, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open crawl report " + reportFile, e);
+        }
+
+        enqueue(base.toString(), 0);
+
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 1; i <= concurrency; i++) {
+            Thread t = new Thread(this::crawlLoop, "a11y-crawler-" + i);
+            t.setDaemon(true);
+            t.start();
+            workers.add(t);
+        }
+
+        try {
+            for (Thread t : workers) {
+                t.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            workers.forEach(Thread::interrupt);
+        } finally {
+            try {
+                report.close();
+            } catch (IOException e) {
+                log.warn("CRAWL failed to close report {}: {}", reportFile, e.getMessage());
+            }
+        }
+
+        log.info("CRAWL visited={}, scanned={}, duplicateDom={}, failingPages={}, concurrency={}, ms={}, report={}",
+                visited.get(), scanned.get(), duplicates.get(), failures.size(), concurrency,
+                (System.nanoTime() - start) / 1_000_000, reportFile);
+        results.byRule().stream().limit(10).forEach(rule ->
+                log.info("CRAWL rule {} on {} page(s), {} node(s)", rule.rule().id(), rule.pages(), rule.nodes()));
+
+        if (abnormalStops.get() > 0) {
+            throw new IllegalStateException(abnormalStops.get() + " of " + concurrency
+                    + " crawler thread(s) stopped abnormally; see the CRAWL errors above");
+        }
+        if (visited.get() == 0) {
+            throw new IllegalStateException("Crawl visited no page from " + base);
+        }
+        return failures;
+    }
+
+    private void crawlLoop() {
+        try (Playwright playwright = Playwright.create()) {
+            Browser browser = BrowserFactory.launch(playwright, ConfigReader.get("browser"),
+                    new BrowserType.LaunchOptions().setHeadless(true));
+            BrowserContext context = browser.newContext();
+            context.setDefaultTimeout(ConfigReader.getInt("timeoutMs"));
+            Page page = context.newPage();
+
+            while (!Thread.currentThread().isInterrupted()) {
+                Route route = frontier.poll(200, TimeUnit.MILLISECONDS);
+                if (route == null) {
+                    if (inFlight.get() == 0) {
+                        return;
+                    }
+                    continue;
+                }
+
+                try {
+                    visit(page, route);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            }
+        } catch (InterruptedException e) {
+            // Crawl cancelled
+        } catch (Exception e) {
+            abnormalStops.incrementAndGet();
+            log.error("CRAWL {} stopped: {}", Thread.currentThread().getName(), e.getMessage());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void visit(Page page, Route route) {
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("url", route.url());
+        line.put("depth", route.depth());
+        long start = System.nanoTime();
+
+        try {
+            Response response = page.navigate(route.url());
+            visited.incrementAndGet();
+            line.put("status", response == null ? null : response.status());
+
+            Map<String, Object> discovered = (Map<String, Object>) page.evaluate(DISCOVER);
+            if (route.depth() < maxDepth) {
+                ((List<String>) discovered.get("links")).forEach(url -> enqueue(url, route.depth() + 1));
+                ((List<String>) discovered.get("forms")).forEach(url -> enqueue(url, route.depth() + 1));
+            }
+
+            String fingerprint = (String) discovered.get("fingerprint");
+            line.put("fingerprint", fingerprint);
+            if (!seenFingerprints.add(fingerprint)) {
+                duplicates.incrementAndGet();
+                line.put("outcome", "duplicate-dom");
+            } else {
+                AxeResult result = AxeScanExecutor.parse(AxeScanExecutor.runFullScan(page));
+                scanned.incrementAndGet();
+                results.add(route.url(), result);
+
+                List<AxeViolation> failing = result.violations().stream()
+                        .filter(v -> AxeScanOptions.current().failsOn(v.impact()))
+                        .toList();
+                line.put("outcome", failing.isEmpty() ? "passed" : "failed");
+                line.put("violations", result.violations().stream()
+                        .map(v -> Map.of("id", v.id(), "impact", String.valueOf(v.impact()), "nodes", v.nodes().size()))
+                        .toList());
+
+                if (!failing.isEmpty()) {
+                    failures.add(route.url() + ": " + failing.stream().map(AxeViolation::id).collect(Collectors.joining(", ")));
+                }
+            }
+        } catch (Exception e) {
+            line.put("outcome", "error");
+            line.put("error", e.getMessage());
+            failures.add(route.url() + ": crawl failed: " + e.getMessage());
+        }
+
+        line.put("ms", (System.nanoTime() - start) / 1_000_000);
+        write(line);
+    }
+
+    private void enqueue(String url, int depth) {
+        URI uri;
+        try {
+            uri = URI.create(url);
+        } catch (IllegalArgumentException e) {
+            return;
+        }
+
+        if (!isSameOrigin(uri) || isDenied(url)) {
+            return;
+        }
+
+        String normalised = normalise(uri);
+        if (seenUrls.size() >= maxPages || !seenUrls.add(normalised)) {
+            return;
+        }
+
+        inFlight.incrementAndGet();
+        frontier.add(new Route(normalised, depth));
+    }
+
+    private boolean isSameOrigin(URI uri) {
+        return uri.getScheme() != null
+                && uri.getScheme().equalsIgnoreCase(base.getScheme())
+                && uri.getHost() != null
+                && uri.getHost().equalsIgnoreCase(base.getHost())
+                && port(uri) == port(base);
+    }
+
+    private boolean isDenied(String url) {
+        return denyList.stream().anyMatch(p -> p.matcher(url).find());
+    }
+
+    /**
+     * Normalises a URL so that trivially different spellings of one route are visited once.
+     */
+    private static String normalise(URI uri) {
+        String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+        if (path.length() > 1 && path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+
+        String query = uri.getRawQuery() == null ? "" : Arrays.stream(uri.getRawQuery().split("&"))
+                .filter(s -> !s.isEmpty())
+                .sorted()
+                .collect(Collectors.joining("&"));
+
+        int port = port(uri);
+        boolean defaultPort = ("http".equalsIgnoreCase(uri.getScheme()) && port == 80)
+                || ("https".equalsIgnoreCase(uri.getScheme()) && port == 443);
+
+        return uri.getScheme().toLowerCase() + "://" + uri.getHost().toLowerCase()
+                + (defaultPort ? "" : ":" + port)
+                + path
+                + (query.isEmpty() ? "" : "?" + query);
+    }
+
+    private static int port(URI uri) {
+        if (uri.getPort() >= 0) {
+            return uri.getPort();
+        }
+        return "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+    }
+
+    private synchronized void write(Map<String, Object> line) {
+        try {
+            report.write(MAPPER.writeValueAsString(line));
+            report.newLine();
+            report.flush();
+        } catch (IOException e) {
+            log.warn("CRAWL failed to write report line for {}: {}", line.get("url"), e.getMessage());
+        }
+    }
+
+    private record Route(String url, int depth) {}
+}
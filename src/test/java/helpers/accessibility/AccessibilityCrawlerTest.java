@@ -0,0 +1,141 @@
+package helpers.accessibility;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Crawls a tiny static site to check link and form discovery, URL and DOM de-duplication and
+ * the deny-list.
+ */
+class AccessibilityCrawlerTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final Map<String, String> PAGES = Map.of(
+            "/", """
+                    <a href="/a">A</a>
+                    <a href="/a/">A again</a>
+                    <a href="/a#top">A top</a>
+                    <a href="/b?y=2&amp;x=1">B</a>
+                    <a href="/b?x=1&amp;y=2">B again</a>
+                    <a href="/logout">Sign out</a>
+                    <a href="http://example.invalid/">Elsewhere</a>
+                    <form action="/search"><input name="q" value="cats" aria-label="Search"><button>Search</button></form>
+                    <form action="/submit" method="post"><button>Submit</button></form>
+                    """,
+            "/a", """
+                    <a href="/">Home</a>
+                    <a href="/c">C</a>
+                    <a href="/d">D</a>
+                    <a href="/e">E</a>
+                    <a href="/f">F</a>
+                    """,
+            "/b", "<p>B</p>",
+            "/search", "<p>Results</p><p>None</p>",
+            "/c", "<img src=\"/logo.png\" alt=\"Logo\"><ul><li>One</li><li>Two</li></ul>",
+            "/d", "<img src=\"/logo.png\"><ul><li>One</li><li>Two</li></ul>",
+            "/e", "<ul><li>Same</li><li>List</li></ul>",
+            "/f", "<ul><li>Same</li><li>List</li></ul>");
+
+    private static final Set<String> REQUESTED = ConcurrentHashMap.newKeySet();
+
+    private static HttpServer server;
+    private static String baseUrl;
+
+    @BeforeAll
+    static void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            REQUESTED.add(path);
+
+            String body = PAGES.get(path.length() > 1 && path.endsWith("/") ? path.substring(0, path.length() - 1) : path);
+            byte[] bytes = ("<!doctype html><html lang=\"en\"><head><title>Crawler test</title></head><body><main>"
+                    + (body == null ? "<p>Not found</p>" : body) + "</main></body></html>").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "text/html");
+            exchange.sendResponseHeaders(body == null ? 404 : 200, bytes.length);
+            exchange.getResponseBody().write(bytes);
+            exchange.close();
+        });
+        server.start();
+
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void visitsEachRouteOnceAndSkipsDeniedAndForeignUrls(@TempDir Path dir) throws IOException {
+        Path report = dir.resolve("crawl.ndjson");
+
+        crawler(URI.create(baseUrl + "/"), report).crawl();
+
+        Map<String, String> outcomes = new LinkedHashMap<>();
+        List<String> urls = new ArrayList<>();
+        for (String line : Files.readAllLines(report)) {
+            JsonNode entry = MAPPER.readTree(line);
+            urls.add(entry.path("url").asText());
+            outcomes.put(entry.path("url").asText(), entry.path("outcome").asText());
+        }
+
+        assertThat(urls).containsExactlyInAnyOrder(
+                baseUrl + "/",
+                baseUrl + "/a",
+                baseUrl + "/b?x=1&y=2",
+                baseUrl + "/search?q=cats",
+                baseUrl + "/c",
+                baseUrl + "/d",
+                baseUrl + "/e",
+                baseUrl + "/f");
+        assertThat(outcomes.values()).doesNotContain("error");
+        assertThat(List.of(outcomes.get(baseUrl + "/c"), outcomes.get(baseUrl + "/d")))
+                .doesNotContain("duplicate-dom");
+        assertThat(List.of(outcomes.get(baseUrl + "/e"), outcomes.get(baseUrl + "/f")))
+                .containsOnlyOnce("duplicate-dom");
+        assertThat(REQUESTED).doesNotContain("/logout", "/submit");
+    }
+
+    @Test
+    void failsWhenNoPageCanBeVisited(@TempDir Path dir) throws IOException {
+        int unusedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            unusedPort = socket.getLocalPort();
+        }
+
+        AccessibilityCrawler crawler = crawler(URI.create("http://127.0.0.1:" + unusedPort + "/"), dir.resolve("crawl.ndjson"));
+
+        assertThatThrownBy(crawler::crawl)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("visited no page");
+    }
+
+    private static AccessibilityCrawler crawler(URI base, Path report) {
+        return new AccessibilityCrawler(base, 3, 50, 2, List.of(Pattern.compile("log-?out")), report, 200);
+    }
+}
@@ -1,43 +1,29 @@
 package helpers.accessibility;
 
-import com.microsoft.playwright.Page;
-import driver.DriverManager;
-
 import static org.assertj.core.api.Assertions.assertThat;
 
 public final class AccessibilityKeyboardAssertions {
 
     private AccessibilityKeyboardAssertions() {}
 
-    private static Page page() {
-        return DriverManager.page();
+    private static KeyboardTraversalReport traversal() {
+        return KeyboardTraversal.current();
     }
 
     public static void assertFocusableElementsPresent() {
-        int count = ((Number) page().evaluate("""
-            () => document.querySelectorAll(
-              'a[href], button, input, select, textarea'
-            ).length
-        """)).intValue();
+        KeyboardTraversalReport report = traversal();
 
-        assertThat(count)
+        assertThat(report.tabOrder())
                 .as("Page must contain focusable elements")
-                .isGreaterThan(0);
+                .isNotEmpty();
+        assertThat(report.focusTraps())
+                .as("Elements must not trap keyboard focus")
+                .isEmpty();
     }
 
     public static void assertFocusVisible() {
-        Boolean visible = (Boolean) page().evaluate("""
-            () => {
-                const el = document.activeElement;
-                if (!el) return false;
-                const style = window.getComputedStyle(el);
-                return style.outlineStyle !== 'none' ||
-                       style.boxShadow !== 'none';
-            }
-        """);
-
-        assertThat(visible)
+        assertThat(traversal().withoutFocusIndicator())
                 .as("Focus indicator must be visible")
-                .isTrue();
+                .isEmpty();
     }
 }
@@ -1,38 +1,35 @@
 package helpers.accessibility;
 
-import com.microsoft.playwright.Page;
-import driver.DriverManager;
-
 import static org.assertj.core.api.Assertions.assertThat;
 
 public final class AccessibilityLandmarkAssertions {
 
     private AccessibilityLandmarkAssertions() {}
 
-    private static Page page() {
-        return DriverManager.page();
+    private static AccessibilityAuditReport audit() {
+        return AccessibilityAudit.current();
     }
 
     public static void assertHasMainLandmark() {
-        assertThat(page().locator("main").count())
+        assertThat(audit().mainCount())
                 .as("Main landmark must exist")
                 .isGreaterThan(0);
     }
 
     public static void assertSingleMain() {
-        assertThat(page().locator("main").count())
+        assertThat(audit().mainCount())
                 .as("There must be exactly one <main>")
                 .isEqualTo(1);
     }
 
     public static void assertSingleBanner() {
-        assertThat(page().locator("header").count())
+        assertThat(audit().headerCount())
                 .as("There must be exactly one banner (<header>)")
                 .isEqualTo(1);
     }
 
     public static void assertAriaLandmarksPresent() {
-        assertThat(page().locator("header, nav, main, footer").count())
+        assertThat(audit().landmarkCount())
                 .as("ARIA landmarks must be present")
                 .isGreaterThan(0);
     }
@@ -1,8 +1,8 @@
 package helpers.accessibility;
 
-import config.ConfigReader;
-
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 public final class AccessibilityPolicy {
 
@@ -10,16 +10,36 @@ public final class AccessibilityPolicy {
 
     public static void validate(AxeResult result) {
 
-        List<String> failOn =
-                List.of(ConfigReader.get("accessibility.failOn").split(","));
+        AxeScanOptions options = AxeScanOptions.current();
 
         result.violations().forEach(v -> {
-            if (failOn.contains(v.impact())) {
+            if (options.failsOn(v.impact())) {
                 throw new AssertionError(buildMessage(v));
             }
         });
     }
 
+    /**
+     * Validates each region of a scoped scan, reporting every failing region together.
+     *
+     * @param results {@link Map} results keyed by region selector
+     */
+    public static void validateRegions(Map<String, AxeResult> results) {
+        List<String> failures = new ArrayList<>();
+
+        results.forEach((region, result) -> {
+            try {
+                validate(result);
+            } catch (AssertionError e) {
+                failures.add("Region " + region + ":\n" + e.getMessage());
+            }
+        });
+
+        if (!failures.isEmpty()) {
+            throw new AssertionError(String.join("\n", failures));
+        }
+    }
+
     private static String buildMessage(AxeViolation v) {
         return """
         Accessibility violation detected
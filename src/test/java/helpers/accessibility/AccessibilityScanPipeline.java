@@ -0,0 +1,296 @@
+package helpers.accessibility;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+import config.ConfigReader;
+import driver.BrowserFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Scans DOM snapshots on background threads so scenarios do not wait for axe
+ * ({@code accessibility.async.enabled=true}).
+ *
+ * <p>{@link #submitSnapshot(Page)} captures {@code page.content()} and the page URL and queues
+ * them. Each of {@code accessibility.async.workers} background threads owns its own Playwright,
+ * headless browser and page (Playwright objects are not thread-safe), replays the snapshot with
+ * {@code setContent} under a {@code <base>} for the original URL, with its {@code <script>}
+ * elements removed and script requests blocked so the app's code does not run again, runs axe and applies {@link AccessibilityPolicy}. The queue holds at most
+ * {@code accessibility.async.queueCapacity} snapshots; when it is full, the submitting scenario
+ * waits, which bounds memory.</p>
+ *
+ * <p>If a background thread stops (e.g. its browser fails to launch), the snapshot it was
+ * scanning fails; once no thread is left, every queued snapshot fails and new submissions are
+ * rejected, so no scenario waits for a scan that will never run.</p>
+ *
+ * <p>Outcomes are kept per scenario: failures that are ready by the end of the scenario fail it
+ * ({@link #takeCompletedFailures(String)}); any still running are awaited at the end of the
+ * suite ({@link #awaitRemaining()}) and reported with the scenario they came from.</p>
+ */
+public final class AccessibilityScanPipeline {
+
+    private static final Logger log = LoggerFactory.getLogger(AccessibilityScanPipeline.class);
+
+    private static final Pattern SCRIPT_ELEMENT =
+            Pattern.compile("<script\\b[^>]*>.*?</script\\s*>", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+    private static final ThreadLocal<String> TL_SCENARIO = new ThreadLocal<>();
+    private static final Map<String, List<CompletableFuture<String>>> PENDING = new ConcurrentHashMap<>();
+    private static final List<Thread> WORKERS = new CopyOnWriteArrayList<>();
+
+    private static final AtomicInteger ALIVE = new AtomicInteger();
+    private static final AtomicInteger SUBMITTED = new AtomicInteger();
+    private static final AtomicLong BACKPRESSURE_NANOS = new AtomicLong();
+
+    private static BlockingQueue<Job> queue;
+
+    private AccessibilityScanPipeline() {}
+
+    public static boolean isEnabled() {
+        return ConfigReader.getBool("accessibility.async.enabled");
+    }
+
+    /**
+     * Associates snapshots submitted from this thread with a scenario.
+     *
+     * @param scenario {@link String} the scenario label used when reporting failures
+     */
+    public static void beginScenario(String scenario) {
+        TL_SCENARIO.set(scenario);
+    }
+
+    /**
+     * Captures the page's DOM and queues it for scanning, waiting only if the queue is full.
+     *
+     * @param page {@link Page} the page to snapshot
+     * @throws IllegalStateException if no background scanner is running
+     */
+    public static void submitSnapshot(Page page) {
+        String scenario = TL_SCENARIO.get() == null ? "unknown scenario" : TL_SCENARIO.get();
+        Job job = new Job(scenario, page.content(), page.url(), new CompletableFuture<>());
+
+        BlockingQueue<Job> jobs = queue();
+        long start = System.nanoTime();
+        try {
+            while (!jobs.offer(job, 200, TimeUnit.MILLISECONDS)) {
+                requireScanners();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing accessibility snapshot", e);
+        }
+        BACKPRESSURE_NANOS.addAndGet(System.nanoTime() - start);
+
+        // The last scanner may have stopped after the offer; fail whatever it left queued
+        if (ALIVE.get() == 0) {
+            failQueued(jobs);
+        }
+        SUBMITTED.incrementAndGet();
+
+        PENDING.computeIfAbsent(scenario, s -> new CopyOnWriteArrayList<>()).add(job.outcome());
+    }
+
+    /**
+     * Removes and returns the failures of the scenario's snapshots that have finished scanning.
+     * Snapshots still being scanned are left for {@link #awaitRemaining()}.
+     *
+     * @param scenario {@link String} the scenario label
+     * @return {@link List} failure messages, empty if none
+     */
+    public static List<String> takeCompletedFailures(String scenario) {
+        List<String> failures = new ArrayList<>();
+        List<CompletableFuture<String>> outcomes = PENDING.getOrDefault(scenario, List.of());
+
+        for (Iterator<CompletableFuture<String>> it = outcomes.iterator(); it.hasNext(); ) {
+            CompletableFuture<String> outcome = it.next();
+            if (outcome.isDone()) {
+                outcomes.remove(outcome);
+                String failure = outcome.isCompletedExceptionally()
+                        ? "accessibility scan did not complete: " + outcome.exceptionNow().getMessage()
+                        : outcome.join();
+                if (failure != null) {
+                    failures.add(failure);
+                }
+            }
+        }
+
+        if (outcomes.isEmpty()) {
+            PENDING.remove(scenario);
+        }
+        TL_SCENARIO.remove();
+        return failures;
+    }
+
+    /**
+     * Waits for every outstanding scan, stops the background threads and returns the failures
+     * that were not yet attributed, each prefixed with its scenario.
+     *
+     * @return {@link List} failure messages, empty if none
+     */
+    public static List<String> awaitRemaining() {
+        List<String> failures = new ArrayList<>();
+
+        PENDING.forEach((scenario, outcomes) -> outcomes.forEach(outcome -> {
+            try {
+                String failure = outcome.get(ConfigReader.getInt("timeoutMs"), TimeUnit.MILLISECONDS);
+                if (failure != null) {
+                    failures.add("[" + scenario + "] " + failure);
+                }
+            } catch (Exception e) {
+                failures.add("[" + scenario + "] accessibility scan did not complete: " + e);
+            }
+        }));
+        PENDING.clear();
+
+        shutdown();
+        return failures;
+    }
+
+    private static synchronized BlockingQueue<Job> queue() {
+        if (queue == null) {
+            queue = new ArrayBlockingQueue<>(ConfigReader.getInt("accessibility.async.queueCapacity"));
+            int workers = ConfigReader.getInt("accessibility.async.workers");
+            ALIVE.set(workers);
+            for (int i = 1; i <= workers; i++) {
+                Thread t = new Thread(() -> scanLoop(queue), "a11y-scanner-" + i);
+                t.setDaemon(true);
+                t.start();
+                WORKERS.add(t);
+            }
+        }
+        requireScanners();
+        return queue;
+    }
+
+    private static void requireScanners() {
+        if (ALIVE.get() == 0) {
+            throw new IllegalStateException("No accessibility scanner is running; see the A11Y scanner errors above");
+        }
+    }
+
+    /**
+     * Fails every queued snapshot once no scanner is left to take it.
+     */
+    private static void failQueued(BlockingQueue<Job> jobs) {
+        for (Job job = jobs.poll(); job != null; job = jobs.poll()) {
+            job.outcome().completeExceptionally(new IllegalStateException("no accessibility scanner running"));
+        }
+    }
+
+    private static synchronized void shutdown() {
+        if (queue == null) {
+            return;
+        }
+
+        WORKERS.forEach(Thread::interrupt);
+        for (Thread t : WORKERS) {
+            try {
+                t.join(10_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        WORKERS.clear();
+        queue = null;
+
+        log.info("A11Y async snapshots={}, backpressureWaitMs={}",
+                SUBMITTED.getAndSet(0), BACKPRESSURE_NANOS.getAndSet(0) / 1_000_000);
+    }
+
+    private static void scanLoop(BlockingQueue<Job> jobs) {
+        Job current = null;
+        try (Playwright playwright = Playwright.create()) {
+            Browser browser = BrowserFactory.launch(playwright, ConfigReader.get("browser"),
+                    new BrowserType.LaunchOptions().setHeadless(true));
+            BrowserContext context = browser.newContext();
+            blockScripts(context);
+            Page page = context.newPage();
+
+            while (!Thread.currentThread().isInterrupted()) {
+                current = jobs.take();
+                current.outcome().complete(scan(page, current));
+                current = null;
+            }
+        } catch (InterruptedException e) {
+            // Shutdown requested
+        } catch (Exception e) {
+            log.error("A11Y scanner {} stopped: {}", Thread.currentThread().getName(), e.getMessage());
+        } finally {
+            if (current != null) {
+                current.outcome().completeExceptionally(
+                        new IllegalStateException(Thread.currentThread().getName() + " stopped"));
+            }
+            if (ALIVE.decrementAndGet() == 0) {
+                failQueued(jobs);
+            }
+        }
+    }
+
+    private static String scan(Page page, Job job) {
+        try {
+            page.setContent(withBase(withoutScripts(job.html()), job.url()));
+            AxeResult result = AxeScanExecutor.parse(AxeScanExecutor.runFullScan(page));
+            AccessibilityPolicy.validate(result);
+            return null;
+        } catch (AssertionError e) {
+            return e.getMessage() + " (snapshot of " + job.url() + ")";
+        } catch (Exception e) {
+            return "accessibility scan of " + job.url() + " failed: " + e.getMessage();
+        }
+    }
+
+    /**
+     * Aborts every script request of a context that replays DOM snapshots. This covers scripts
+     * loaded by URL only; inline ones are removed from the snapshot by {@link #withoutScripts(String)}.
+     */
+    static void blockScripts(BrowserContext context) {
+        context.route("**/*", route -> {
+            if ("script".equals(route.request().resourceType())) {
+                route.abort();
+            } else {
+                route.resume();
+            }
+        });
+    }
+
+    /**
+     * Removes every {@code <script>} element from a snapshot, so its inline code does not run again
+     * when the snapshot is replayed with {@code setContent}.
+     */
+    static String withoutScripts(String html) {
+        return SCRIPT_ELEMENT.matcher(html).replaceAll("");
+    }
+
+    /**
+     * Inserts a {@code <base>} for the original URL so a replayed snapshot resolves relative
+     * stylesheets and images as the original page did.
+     */
+    static String withBase(String html, String url) {
+        String base = "<base href=\"" + url.replace("\"", "%22") + "\">";
+        int head = html.toLowerCase().indexOf("<head");
+        if (head < 0) {
+            return base + html;
+        }
+        int headEnd = html.indexOf('>', head);
+        return html.substring(0, headEnd + 1) + base + html.substring(headEnd + 1);
+    }
+
+    private record Job(String scenario, String html, String url, CompletableFuture<String> outcome) {}
+}
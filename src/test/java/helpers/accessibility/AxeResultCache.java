@@ -0,0 +1,156 @@
+package helpers.accessibility;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microsoft.playwright.Page;
+import config.ConfigReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Run-wide cache of axe results keyed by a fingerprint of the scanned document.
+ *
+ * <p>The fingerprint is a 53-bit hash of the serialized DOM plus its length and the viewport
+ * size, computed in the page, combined with the axe version and the scan's tags and exclusions.
+ * Identical pages (e.g. the sign-in page opened by several features) are scanned once per run.
+ * The cache is shared by all workers and holds at most {@code accessibility.cache.maxEntries}
+ * results, evicting the least recently used. When {@code accessibility.cache.file} is set, it is
+ * loaded on first use and saved at the end of the run; a file written by another axe version is
+ * ignored.</p>
+ */
+public final class AxeResultCache {
+
+    private static final Logger log = LoggerFactory.getLogger(AxeResultCache.class);
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /** In-page function hashing the serialized DOM, with its length and the viewport size. */
+    static final String FINGERPRINT = """
+            () => {
+              const html = document.documentElement.outerHTML;
+              let h1 = 0xdeadbeef, h2 = 0x41c6ce57;
+              for (let i = 0; i < html.length; i++) {
+                const ch = html.charCodeAt(i);
+                h1 = Math.imul(h1 ^ ch, 2654435761);
+                h2 = Math.imul(h2 ^ ch, 1597334677);
+              }
+              h1 = Math.imul(h1 ^ (h1 >>> 16), 2246822507) ^ Math.imul(h2 ^ (h2 >>> 13), 3266489909);
+              h2 = Math.imul(h2 ^ (h2 >>> 16), 2246822507) ^ Math.imul(h1 ^ (h1 >>> 13), 3266489909);
+              const hash = 4294967296 * (2097151 & h2) + (h1 >>> 0);
+              return hash.toString(36) + ':' + html.length + ':' + window.innerWidth + 'x' + window.innerHeight;
+            }
+            """;
+
+    private static final AtomicInteger HITS = new AtomicInteger();
+    private static final AtomicInteger MISSES = new AtomicInteger();
+
+    private static Map<String, AxeResult> entries;
+
+    private AxeResultCache() {}
+
+    /**
+     * Returns the cached result for the page's current DOM, or scans and caches it.
+     *
+     * @param page {@link Page} the page to scan
+     * @param options {@link AxeScanOptions} the options the scan runs with
+     * @param scan {@link Supplier} runs the scan on a cache miss
+     * @return {@link AxeResult} the cached or fresh result
+     */
+    public static AxeResult getOrScan(Page page, AxeScanOptions options, Supplier<AxeResult> scan) {
+        if (!ConfigReader.getBool("accessibility.cache.enabled")) {
+            return scan.get();
+        }
+
+        String key = AxeScriptLoader.version() + "|" + options.resultKey() + "|" + page.evaluate(FINGERPRINT);
+
+        AxeResult cached;
+        synchronized (AxeResultCache.class) {
+            cached = entries().get(key);
+        }
+        if (cached != null) {
+            HITS.incrementAndGet();
+            log.debug("AXE cache hit {}", key);
+            return cached;
+        }
+
+        MISSES.incrementAndGet();
+        AxeResult result = scan.get();
+        synchronized (AxeResultCache.class) {
+            entries().put(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * Logs the hit rate and saves the cache if persistence is configured.
+     */
+    public static void logSummaryAndSave() {
+        int hits = HITS.getAndSet(0);
+        int misses = MISSES.getAndSet(0);
+
+        if (hits + misses > 0) {
+            log.info("AXE cache hits={}, misses={}, hitRate={}%", hits, misses, 100 * hits / (hits + misses));
+        }
+
+        Path file = file();
+        if (file == null || entries == null) {
+            return;
+        }
+
+        synchronized (AxeResultCache.class) {
+            try {
+                Files.createDirectories(file.toAbsolutePath().getParent());
+                MAPPER.writeValue(file.toFile(), new Persisted(AxeScriptLoader.version(), entries));
+            } catch (Exception e) {
+                log.warn("AXE cache could not be saved to {}: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    private static Map<String, AxeResult> entries() {
+        if (entries == null) {
+            int maxEntries = Integer.parseInt(ConfigReader.get("accessibility.cache.maxEntries"));
+            entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, AxeResult> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+            load(entries);
+        }
+        return entries;
+    }
+
+    private static void load(Map<String, AxeResult> target) {
+        Path file = file();
+        if (file == null || !Files.exists(file)) {
+            return;
+        }
+
+        try {
+            Persisted persisted = MAPPER.readValue(file.toFile(), new TypeReference<Persisted>() {});
+            if (AxeScriptLoader.version().equals(persisted.axeVersion())) {
+                target.putAll(persisted.entries());
+                log.info("AXE cache loaded {} results from {}", persisted.entries().size(), file);
+            } else {
+                log.info("AXE cache {} was written by axe {}, ignoring", file, persisted.axeVersion());
+            }
+        } catch (Exception e) {
+            log.warn("AXE cache could not be read from {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static Path file() {
+        String configured = ConfigReader.get("accessibility.cache.file");
+        return (configured == null || configured.isBlank()) ? null : Path.of(configured);
+    }
+
+    record Persisted(String axeVersion, Map<String, AxeResult> entries) {}
+}
@@ -1,43 +1,140 @@
 package helpers.accessibility;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
-@SuppressWarnings("unchecked")
+/**
+ * Parses the slim scan payload produced by {@link AxeScanExecutor} with Jackson's streaming
+ * parser, straight into {@link AxeViolation} and {@link AxeNode} records.
+ */
 public final class AxeResultParser {
 
+    private static final JsonFactory JSON = new JsonFactory();
+
     private AxeResultParser() {}
 
-    public static AxeResult parse(Map<String, Object> rawResult) {
+    static Parsed parse(String payload) {
+        List<AxeViolation> violations = new ArrayList<>();
+        long fullBytes = 0;
+        String scope = "full";
+        Map<String, Double> ruleTimings = new LinkedHashMap<>();
+        List<int[]> nodeRegions = new ArrayList<>();
+
+        try (JsonParser p = JSON.createParser(payload)) {
+            expect(p.nextToken(), JsonToken.START_OBJECT);
 
-        List<Map<String, Object>> rawViolations =
-                (List<Map<String, Object>>) rawResult.get("violations");
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                p.nextToken();
 
-        List<AxeViolation> violations = new ArrayList<>();
+                switch (field) {
+                    case "violations" -> {
+                        expect(p.currentToken(), JsonToken.START_ARRAY);
+                        while (p.nextToken() == JsonToken.START_OBJECT) {
+                            violations.add(readViolation(p));
+                        }
+                    }
+                    case "fullBytes" -> fullBytes = p.getLongValue();
+                    case "scope" -> scope = p.getValueAsString();
+                    case "ruleTimings" -> {
+                        while (p.nextToken() == JsonToken.FIELD_NAME) {
+                            String rule = p.currentName();
+                            p.nextToken();
+                            ruleTimings.put(rule, p.getDoubleValue());
+                        }
+                    }
+                    case "regions" -> {
+                        while (p.nextToken() == JsonToken.START_ARRAY) {
+                            nodeRegions.add(readInts(p));
+                        }
+                    }
+                    default -> p.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to parse axe result", e);
+        }
+
+        return new Parsed(new AxeResult(violations), fullBytes, scope, ruleTimings, nodeRegions);
+    }
+
+    private static AxeViolation readViolation(JsonParser p) throws IOException {
+        String id = null;
+        String impact = null;
+        String description = null;
+        String help = null;
+        List<AxeNode> nodes = new ArrayList<>();
+
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
 
-        for (Map<String, Object> v : rawViolations) {
+            switch (field) {
+                case "id" -> id = p.getValueAsString();
+                case "impact" -> impact = p.getValueAsString();
+                case "description" -> description = p.getValueAsString();
+                case "help" -> help = p.getValueAsString();
+                case "nodes" -> {
+                    while (p.nextToken() == JsonToken.START_OBJECT) {
+                        nodes.add(readNode(p));
+                    }
+                }
+                default -> p.skipChildren();
+            }
+        }
+
+        return new AxeViolation(id, impact, description, help, nodes);
+    }
+
+    private static AxeNode readNode(JsonParser p) throws IOException {
+        List<String> target = new ArrayList<>();
+        String html = null;
 
-            List<AxeNode> nodes = new ArrayList<>();
-            List<Map<String, Object>> rawNodes =
-                    (List<Map<String, Object>>) v.get("nodes");
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
 
-            for (Map<String, Object> n : rawNodes) {
-                nodes.add(new AxeNode(
-                        (List<String>) n.get("target"),
-                        (String) n.get("html")
-                ));
+            switch (field) {
+                case "target" -> {
+                    while (p.nextToken() != JsonToken.END_ARRAY) {
+                        target.add(p.getValueAsString());
+                    }
+                }
+                case "html" -> html = p.getValueAsString();
+                default -> p.skipChildren();
             }
+        }
 
-            violations.add(new AxeViolation(
-                    (String) v.get("id"),
-                    (String) v.get("impact"),
-                    (String) v.get("description"),
-                    (String) v.get("help"),
-                    nodes
-            ));
+        return new AxeNode(target, html);
+    }
+
+    private static int[] readInts(JsonParser p) throws IOException {
+        List<Integer> values = new ArrayList<>();
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            values.add(p.getIntValue());
         }
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
 
-        return new AxeResult(violations);
+    private static void expect(JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new IOException("Expected " + expected + " but found " + actual);
+        }
     }
+
+    /**
+     * A parsed payload: the result, the full result size when it was measured, what was
+     * scanned ({@code full}, {@code scoped}, {@code partial} or {@code unchanged}), per-rule
+     * timings in milliseconds when the scan measured them and, for scoped scans, the include
+     * selector index of each violation's nodes.
+     */
+    record Parsed(AxeResult result, long fullBytes, String scope, Map<String, Double> ruleTimings,
+                  List<int[]> nodeRegions) {}
 }
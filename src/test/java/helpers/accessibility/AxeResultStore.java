@@ -0,0 +1,304 @@
+package helpers.accessibility;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Columnar store for the axe results of many pages.
+ *
+ * <p>Rule id, description and help text are interned once per rule; node target lists and
+ * HTML snippets are interned in string pools (snippets truncated to {@code htmlMaxChars}), so
+ * a header or footer node that fails on every page is held once. Each page keeps only primitive
+ * arrays: the rule index and impact code of each violation and the offset of its nodes, whose
+ * target and snippet indexes live in two shared {@code int} columns. Per-rule page and node
+ * counts are maintained on insert, so grouping by rule does not walk the pages.</p>
+ *
+ * <p>Adding is synchronized so crawler threads can share one store; queries return copies.</p>
+ */
+public final class AxeResultStore {
+
+    private static final String[] IMPACTS = {"minor", "moderate", "serious", "critical"};
+
+    private static final String TARGET_SEPARATOR = "\u001f";
+
+    private final int htmlMaxChars;
+
+    private final Map<String, Integer> ruleIndex = new HashMap<>();
+    private final List<Rule> rules = new ArrayList<>();
+    private int[] pagesPerRule = new int[16];
+    private int[] nodesPerRule = new int[16];
+
+    private final StringPool targets = new StringPool();
+    private final StringPool snippets = new StringPool();
+    private final IntColumn nodeTargets = new IntColumn();
+    private final IntColumn nodeSnippets = new IntColumn();
+
+    private final List<String> pageUrls = new ArrayList<>();
+    private final List<PageColumns> pages = new ArrayList<>();
+
+    /**
+     * @param htmlMaxChars longest HTML snippet kept per node; longer snippets are truncated
+     */
+    public AxeResultStore(int htmlMaxChars) {
+        this.htmlMaxChars = htmlMaxChars;
+    }
+
+    /**
+     * Rule metadata, held once per rule id.
+     *
+     * @param id the axe rule id
+     * @param description the rule description
+     * @param help the rule help text
+     */
+    public record Rule(String id, String description, String help) {}
+
+    /**
+     * Aggregate of one rule across every stored page.
+     *
+     * @param rule the rule
+     * @param pages number of pages with at least one violation of the rule
+     * @param nodes number of failing nodes across those pages
+     */
+    public record RuleSummary(Rule rule, int pages, int nodes) {}
+
+    /**
+     * Adds one page's result.
+     *
+     * @param url {@link String} the page URL
+     * @param result {@link AxeResult} the page's scan result
+     */
+    public synchronized void add(String url, AxeResult result) {
+        int violations = result.violations().size();
+        int[] ruleIds = new int[violations];
+        byte[] impacts = new byte[violations];
+        int[] nodeOffsets = new int[violations + 1];
+
+        boolean[] countedOnPage = new boolean[rules.size() + violations];
+        for (int v = 0; v < violations; v++) {
+            AxeViolation violation = result.violations().get(v);
+            int rule = internRule(violation);
+
+            ruleIds[v] = rule;
+            impacts[v] = impactCode(violation.impact());
+            nodeOffsets[v] = nodeTargets.size();
+
+            List<AxeNode> nodes = violation.nodes() == null ? List.of() : violation.nodes();
+            for (AxeNode node : nodes) {
+                nodeTargets.add(targets.intern(node.target() == null ? "" : String.join(TARGET_SEPARATOR, node.target())));
+                nodeSnippets.add(snippets.intern(truncate(node.html())));
+            }
+
+            nodesPerRule[rule] += nodes.size();
+            if (!countedOnPage[rule]) {
+                countedOnPage[rule] = true;
+                pagesPerRule[rule]++;
+            }
+        }
+        nodeOffsets[violations] = nodeTargets.size();
+
+        pageUrls.add(url);
+        pages.add(new PageColumns(ruleIds, impacts, nodeOffsets));
+    }
+
+    public synchronized int pageCount() {
+        return pages.size();
+    }
+
+    /**
+     * Groups by rule, most widespread first.
+     *
+     * @return {@link List} one summary per rule seen
+     */
+    public synchronized List<RuleSummary> byRule() {
+        List<RuleSummary> summaries = new ArrayList<>(rules.size());
+        for (int r = 0; r < rules.size(); r++) {
+            summaries.add(new RuleSummary(rules.get(r), pagesPerRule[r], nodesPerRule[r]));
+        }
+        summaries.sort((a, b) -> a.pages() != b.pages()
+                ? Integer.compare(b.pages(), a.pages())
+                : Integer.compare(b.nodes(), a.nodes()));
+        return summaries;
+    }
+
+    /**
+     * Groups by page.
+     *
+     * @return {@link Map} page URL to the ids of the rules it violates, in insertion order
+     */
+    public synchronized Map<String, List<String>> byPage() {
+        Map<String, List<String>> byPage = new LinkedHashMap<>();
+        for (int p = 0; p < pages.size(); p++) {
+            int[] ruleIds = pages.get(p).ruleIds();
+            List<String> ids = new ArrayList<>(ruleIds.length);
+            for (int rule : ruleIds) {
+                ids.add(rules.get(rule).id());
+            }
+            byPage.put(pageUrls.get(p), ids);
+        }
+        return byPage;
+    }
+
+    /**
+     * Lists the pages that violate a rule.
+     *
+     * @param ruleId {@link String} the axe rule id
+     * @return {@link List} URLs of the pages violating the rule
+     */
+    public synchronized List<String> pagesViolating(String ruleId) {
+        Integer rule = ruleIndex.get(ruleId);
+        List<String> urls = new ArrayList<>();
+        if (rule == null) {
+            return urls;
+        }
+
+        for (int p = 0; p < pages.size(); p++) {
+            for (int id : pages.get(p).ruleIds()) {
+                if (id == rule) {
+                    urls.add(pageUrls.get(p));
+                    break;
+                }
+            }
+        }
+        return urls;
+    }
+
+    /**
+     * Rebuilds a page's result (with truncated snippets), e.g. for a detailed report.
+     *
+     * @param url {@link String} the page URL
+     * @return {@link AxeResult} the page's result, or {@code null} if the page is not stored
+     */
+    public synchronized AxeResult result(String url) {
+        int p = pageUrls.indexOf(url);
+        if (p < 0) {
+            return null;
+        }
+
+        PageColumns page = pages.get(p);
+        List<AxeViolation> violations = new ArrayList<>(page.ruleIds().length);
+        for (int v = 0; v < page.ruleIds().length; v++) {
+            Rule rule = rules.get(page.ruleIds()[v]);
+            List<AxeNode> nodes = new ArrayList<>();
+            for (int n = page.nodeOffsets()[v]; n < page.nodeOffsets()[v + 1]; n++) {
+                String target = targets.get(nodeTargets.get(n));
+                nodes.add(new AxeNode(
+                        target.isEmpty() ? List.of() : List.of(target.split(TARGET_SEPARATOR)),
+                        snippets.get(nodeSnippets.get(n))));
+            }
+            violations.add(new AxeViolation(rule.id(), impactName(page.impacts()[v]), rule.description(), rule.help(), nodes));
+        }
+        return new AxeResult(violations);
+    }
+
+    private int internRule(AxeViolation violation) {
+        Integer existing = ruleIndex.get(violation.id());
+        if (existing != null) {
+            return existing;
+        }
+
+        int index = rules.size();
+        rules.add(new Rule(violation.id(), violation.description(), violation.help()));
+        ruleIndex.put(violation.id(), index);
+        if (index == pagesPerRule.length) {
+            pagesPerRule = Arrays.copyOf(pagesPerRule, index * 2);
+            nodesPerRule = Arrays.copyOf(nodesPerRule, index * 2);
+        }
+        return index;
+    }
+
+    private String truncate(String html) {
+        if (html == null) {
+            return "";
+        }
+        return html.length() <= htmlMaxChars ? html : html.substring(0, htmlMaxChars) + "...";
+    }
+
+    private static byte impactCode(String impact) {
+        for (byte i = 0; i < IMPACTS.length; i++) {
+            if (IMPACTS[i].equalsIgnoreCase(impact)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String impactName(byte code) {
+        return code < 0 ? null : IMPACTS[code];
+    }
+
+    private record PageColumns(int[] ruleIds, byte[] impacts, int[] nodeOffsets) {}
+
+    /**
+     * Interns strings into an index-addressed list, using an open-addressing table of
+     * {@code int} indexes instead of a {@code HashMap} so each unique value costs one slot.
+     */
+    private static final class StringPool {
+
+        private final List<String> values = new ArrayList<>();
+        private int[] table = new int[1024];
+
+        StringPool() {
+            Arrays.fill(table, -1);
+        }
+
+        int intern(String value) {
+            int mask = table.length - 1;
+            for (int slot = value.hashCode() & mask; ; slot = (slot + 1) & mask) {
+                int index = table[slot];
+                if (index < 0) {
+                    values.add(value);
+                    table[slot] = values.size() - 1;
+                    if (values.size() * 2 > table.length) {
+                        rehash();
+                    }
+                    return values.size() - 1;
+                }
+                if (values.get(index).equals(value)) {
+                    return index;
+                }
+            }
+        }
+
+        String get(int i) {
+            return values.get(i);
+        }
+
+        private void rehash() {
+            table = new int[table.length * 2];
+            Arrays.fill(table, -1);
+            int mask = table.length - 1;
+            for (int i = 0; i < values.size(); i++) {
+                int slot = values.get(i).hashCode() & mask;
+                while (table[slot] >= 0) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = i;
+            }
+        }
+    }
+
+    private static final class IntColumn {
+
+        private int[] values = new int[1024];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int get(int i) {
+            return values[i];
+        }
+
+        int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package helpers.accessibility;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares the retained heap of {@link AxeResultStore} with plain {@link AxeResult} lists on a
+ * synthetic crawl.
+ *
+ * <p>Pages share a layout (header, footer, cookie banner) whose nodes fail on every page, plus
+ * page-specific nodes; every string is a fresh instance, as it would be after JSON parsing.</p>
+ * <pre>
+ * mvn test-compile exec:java -Dexec.mainClass=helpers.accessibility.AxeResultStoreBenchmark -Dexec.classpathScope=test
+ * </pre>
+ */
+public final class AxeResultStoreBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(AxeResultStoreBenchmark.class);
+
+    private static final int PAGES = 1_000;
+    private static final int RULES = 40;
+    private static final int HTML_MAX_CHARS = 200;
+
+    private AxeResultStoreBenchmark() {}
+
+    public static void main(String[] args) {
+        int pages = args.length > 0 ? Integer.parseInt(args[0]) : PAGES;
+
+        long baseline = usedHeap();
+        List<AxeResult> records = new ArrayList<>(pages);
+        for (int p = 0; p < pages; p++) {
+            records.add(syntheticPage(p));
+        }
+        long recordsBytes = usedHeap() - baseline;
+        records.clear();
+
+        baseline = usedHeap();
+        long start = System.nanoTime();
+        AxeResultStore store = new AxeResultStore(HTML_MAX_CHARS);
+        for (int p = 0; p < pages; p++) {
+            store.add(url(p), syntheticPage(p));
+        }
+        long addMs = (System.nanoTime() - start) / 1_000_000;
+        long storeBytes = usedHeap() - baseline;
+
+        start = System.nanoTime();
+        List<AxeResultStore.RuleSummary> byRule = store.byRule();
+        long byRuleMicros = (System.nanoTime() - start) / 1_000;
+        start = System.nanoTime();
+        int pagesGrouped = store.byPage().size();
+        long byPageMicros = (System.nanoTime() - start) / 1_000;
+
+        log.info("STORE pages={}, records={} KiB, store={} KiB ({}% of records), addMs={}",
+                pages, recordsBytes / 1024, storeBytes / 1024,
+                recordsBytes == 0 ? 0 : 100 * storeBytes / recordsBytes, addMs);
+        log.info("STORE byRule: {} rules in {} µs (top: {} on {} pages); byPage: {} pages in {} µs",
+                byRule.size(), byRuleMicros, byRule.get(0).rule().id(), byRule.get(0).pages(),
+                pagesGrouped, byPageMicros);
+    }
+
+    private static AxeResult syntheticPage(int p) {
+        Random random = new Random(p);
+        List<AxeViolation> violations = new ArrayList<>();
+
+        int count = 4 + random.nextInt(8);
+        for (int v = 0; v < count; v++) {
+            int rule = (v < 3) ? v : random.nextInt(RULES);
+
+            List<AxeNode> nodes = new ArrayList<>();
+            int nodeCount = 1 + random.nextInt(12);
+            for (int n = 0; n < nodeCount; n++) {
+                boolean layout = n < 3 && rule < 3;
+                String owner = layout ? "layout" : "page-" + p;
+                String target = "#" + owner + " > div:nth-of-type(" + (n + 1) + ") > .rule-" + rule;
+                nodes.add(new AxeNode(List.of(new String(target)), new String(html(owner, rule, n))));
+            }
+
+            violations.add(new AxeViolation(
+                    new String("rule-" + rule),
+                    rule % 4 == 0 ? "critical" : "serious",
+                    new String("Ensures rule " + rule + " is satisfied by every element it applies to on the page, "
+                            + "including elements rendered after user interaction"),
+                    new String("Elements must satisfy rule " + rule),
+                    nodes));
+        }
+        return new AxeResult(violations);
+    }
+
+    private static String html(String owner, int rule, int n) {
+        return "<div class=\"govuk-" + owner + "__item rule-" + rule + "\" data-index=\"" + n + "\">"
+                + "<a href=\"/" + owner + "/" + n + "\" class=\"govuk-link govuk-link--no-visited-state\">"
+                + "Item " + n + " of " + owner + " with some descriptive link text that axe reports verbatim"
+                + "</a><span class=\"govuk-visually-hidden\">additional context for item " + n + "</span></div>";
+    }
+
+    private static String url(int p) {
+        return "http://localhost:3000/synthetic/" + p;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
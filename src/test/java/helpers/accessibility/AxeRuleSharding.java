@@ -0,0 +1,229 @@
+package helpers.accessibility;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import config.ConfigReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Splits one axe scan across {@code accessibility.ruleShards} pages.
+ *
+ * <p>The rules selected by the scan's tags are divided into groups of roughly equal expected
+ * time, using per-rule timings from previous runs ({@code accessibility.ruleTimingsFile}); rules
+ * never timed count as the average. Each group runs in its own page holding a copy of the
+ * current DOM. The copies live in a separate context of the same browser, with the scenario's
+ * viewport, {@code <script>} elements removed and script requests aborted as in
+ * {@link AccessibilityScanPipeline}, so the app's JavaScript does not run again and the
+ * scenario's cookies and storage are not touched. The runs
+ * are started in every page before any result is awaited, so the browser executes them
+ * concurrently while all Playwright calls stay on the scenario's thread. The group runs count as
+ * one scan. Rule times measured by axe's {@code performanceTimer}, here or in any other scan,
+ * feed the next split.</p>
+ *
+ * <p>A copy holds only the serialized top document, without frame documents or shadow trees, so
+ * a page with an {@code iframe}, {@code frame} or open shadow root is scanned in place with one
+ * full run instead. A tag set that selects no rule yields no violations without running axe.</p>
+ */
+public final class AxeRuleSharding {
+
+    private static final Logger log = LoggerFactory.getLogger(AxeRuleSharding.class);
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private static final String START_GROUP = """
+            ({ rules, exclude }) => {
+              performance.clearMeasures();
+              const context = exclude.length > 0 ? { exclude: exclude.map(selector => [selector]) } : document;
+              window.__axeShard = axe.run(context, {
+                runOnly: { type: 'rule', values: rules },
+                resultTypes: ['violations'],
+                performanceTimer: true
+              }).then(result => {
+                const ruleTimings = ("""
+            + AxeScanExecutor.COLLECT_RULE_TIMINGS
+            + """
+                )();
+                const violations = (""\"
+            + AxeScanExecutor.PROJECT_VIOLATIONS
+            + ""\"
+                )(result.violations);
+                return JSON.stringify({ violations, ruleTimings, scope: 'rules' });
+              });
+            }
+            """;
+
+    private static final String HAS_NESTED_DOCUMENTS = """
+            () => document.querySelector('iframe, frame') !== null
+              || Array.from(document.querySelectorAll('*')).some(el => el.shadowRoot)
+            """;
+
+    private static Map<String, Double> timings;
+
+    private AxeRuleSharding() {}
+
+    public static boolean isEnabled() {
+        String shards = ConfigReader.get("accessibility.ruleShards");
+        return shards != null && !shards.isBlank() && Integer.parseInt(shards.trim()) > 1;
+    }
+
+    /**
+     * Scans the page's current DOM with the rules of the given tags split across several pages,
+     * or in one full run when the page has frames or shadow roots.
+     *
+     * @param page {@link Page} the page whose DOM is scanned
+     * @param tags {@link List} the rule tags to check
+     * @return {@link AxeResult} the merged violations
+     */
+    public static AxeResult scan(Page page, List<String> tags) {
+        AxeScriptLoader.injectAxe(page);
+
+        @SuppressWarnings("unchecked")
+        List<String> rules = (List<String>) page.evaluate("tags => axe.getRules(tags).map(r => r.ruleId)", tags);
+        if (rules.isEmpty()) {
+            return new AxeResult(List.of());
+        }
+        if (Boolean.TRUE.equals(page.evaluate(HAS_NESTED_DOCUMENTS))) {
+            log.debug("AXE rule sharding skipped on {}: the page has frames or shadow roots", page.url());
+            return AxeScanExecutor.parse(AxeScanExecutor.runFullScan(page));
+        }
+        List<List<String>> groups = split(rules, ConfigReader.getInt("accessibility.ruleShards"));
+
+        long start = System.nanoTime();
+        String html = AccessibilityScanPipeline.withBase(
+                AccessibilityScanPipeline.withoutScripts(page.content()), page.url());
+
+        Browser.NewContextOptions options = new Browser.NewContextOptions();
+        if (page.viewportSize() != null) {
+            options.setViewportSize(page.viewportSize().width, page.viewportSize().height);
+        }
+        BrowserContext isolated = page.context().browser().newContext(options);
+        AccessibilityScanPipeline.blockScripts(isolated);
+
+        try {
+            List<Page> shardPages = new ArrayList<>();
+            for (List<String> group : groups) {
+                Page shardPage = isolated.newPage();
+                shardPages.add(shardPage);
+                shardPage.setContent(html);
+                AxeScriptLoader.injectAxe(shardPage);
+                shardPage.evaluate(START_GROUP, Map.of(
+                        "rules", group,
+                        "exclude", AxeScanOptions.current().excludeSelectors()));
+            }
+
+            List<AxeResult> partials = new ArrayList<>();
+            for (Page shardPage : shardPages) {
+                String payload = (String) shardPage.evaluate("() => window.__axeShard");
+                partials.add(AxeScanExecutor.parseDetailed(payload, partials.isEmpty()).result());
+            }
+            AxeTimingReport.recordPage(page.url(), (System.nanoTime() - start) / 1_000_000.0);
+
+            return merge(partials);
+        } finally {
+            isolated.close();
+        }
+    }
+
+    /**
+     * Saves the rule timings measured during the run.
+     */
+    public static synchronized void saveTimings() {
+        if (timings == null) {
+            return;
+        }
+
+        Path file = timingsFile();
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            MAPPER.writeValue(file.toFile(), new TreeMap<>(timings));
+        } catch (Exception e) {
+            log.warn("AXE rule timings could not be saved to {}: {}", file, e.getMessage());
+        }
+    }
+
+    static synchronized List<List<String>> split(List<String> rules, int groupCount) {
+        Map<String, Double> known = timings();
+        double average = known.values().stream().mapToDouble(Double::doubleValue).average().orElse(1);
+
+        List<String> ordered = new ArrayList<>(rules);
+        ordered.sort(Comparator.<String>comparingDouble(rule -> known.getOrDefault(rule, average))
+                .reversed()
+                .thenComparing(Comparator.naturalOrder()));
+
+        int count = Math.max(1, Math.min(groupCount, ordered.size()));
+        List<List<String>> groups = new ArrayList<>();
+        double[] load = new double[count];
+        for (int i = 0; i < count; i++) {
+            groups.add(new ArrayList<>());
+        }
+
+        for (String rule : ordered) {
+            int lightest = 0;
+            for (int i = 1; i < count; i++) {
+                if (load[i] < load[lightest]) {
+                    lightest = i;
+                }
+            }
+            groups.get(lightest).add(rule);
+            load[lightest] += known.getOrDefault(rule, average);
+        }
+
+        return groups;
+    }
+
+    private static AxeResult merge(List<AxeResult> partials) {
+        Map<String, AxeViolation> byRule = new LinkedHashMap<>();
+
+        for (AxeResult partial : partials) {
+            for (AxeViolation violation : partial.violations()) {
+                byRule.merge(violation.id(), violation, (a, b) -> {
+                    Set<AxeNode> nodes = new LinkedHashSet<>(a.nodes());
+                    nodes.addAll(b.nodes());
+                    return new AxeViolation(a.id(), a.impact(), a.description(), a.help(), new ArrayList<>(nodes));
+                });
+            }
+        }
+
+        return new AxeResult(new ArrayList<>(byRule.values()));
+    }
+
+    static synchronized void recordTimings(Map<String, Double> measured) {
+        Map<String, Double> known = timings();
+        measured.forEach((rule, ms) -> known.merge(rule, ms, (previous, current) -> (previous + current) / 2));
+    }
+
+    private static Map<String, Double> timings() {
+        if (timings == null) {
+            timings = new LinkedHashMap<>();
+            Path file = timingsFile();
+            if (Files.exists(file)) {
+                try {
+                    timings.putAll(MAPPER.readValue(file.toFile(), new TypeReference<Map<String, Double>>() {}));
+                } catch (Exception e) {
+                    log.warn("AXE rule timings could not be read from {}: {}", file, e.getMessage());
+                }
+            }
+        }
+        return timings;
+    }
+
+    private static Path timingsFile() {
+        return Path.of(ConfigReader.get("accessibility.ruleTimingsFile"));
+    }
+}
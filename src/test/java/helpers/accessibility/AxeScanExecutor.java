@@ -1,38 +1,314 @@
 package helpers.accessibility;
 
 import com.microsoft.playwright.Page;
+import config.ConfigReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Runs axe in the page and returns a slim JSON payload for {@link AxeResultParser}.
+ *
+ * <p>Only violations are requested ({@code resultTypes}) and each is projected in the page to
+ * the fields of {@link AxeViolation} and {@link AxeNode} before crossing the Playwright wire.
+ * With {@code accessibility.comparePayload=true} the scan runs without {@code resultTypes} and
+ * also reports the size of the full result, for before/after comparisons.</p>
+ *
+ * <p>Every scan uses the tags, excluded selectors and rule timing of {@link AxeScanOptions}.
+ * Scoped scans run once over every element matching any of the given include selectors, minus
+ * any extra exclude selectors, and attribute each failing node to the first include selector
+ * whose elements contain it ({@link #parseByRegion(String, List)}), or to
+ * {@link #UNATTRIBUTED} when its target cannot be resolved. Incremental scans
+ * include only the regions {@link DomChangeTracker} saw change since the previous scan.</p>
+ */
 public final class AxeScanExecutor {
 
-    private AxeScanExecutor() {}
+    private static final Logger log = LoggerFactory.getLogger(AxeScanExecutor.class);
 
-    @SuppressWarnings("unchecked")
-    public static Map<String, Object> runFullScan(Page page) {
-        AxeScriptLoader.injectAxe(page);
+    /** Region key of {@link #parseByRegion(String, List)} for failing nodes not inside any include selector's elements. */
+    public static final String UNATTRIBUTED = "unattributed";
+
+    private static final AtomicInteger SCANS = new AtomicInteger();
+    private static final AtomicLong PAYLOAD_BYTES = new AtomicLong();
+    private static final AtomicLong FULL_PAYLOAD_BYTES = new AtomicLong();
+    private static final AtomicLong PARSE_NANOS = new AtomicLong();
 
-        return (Map<String, Object>) page.evaluate("""
+    private static final AtomicInteger INCREMENTAL_FULL = new AtomicInteger();
+    private static final AtomicInteger INCREMENTAL_PARTIAL = new AtomicInteger();
+    private static final AtomicInteger INCREMENTAL_UNCHANGED = new AtomicInteger();
+
+    /** In-page function reducing axe violations to the fields of {@link AxeViolation} and {@link AxeNode}. */
+    static final String PROJECT_VIOLATIONS = """
+            violations => violations.map(v => ({
+              id: v.id,
+              impact: v.impact,
+              description: v.description,
+              help: v.help,
+              nodes: v.nodes.map(n => ({
+                target: n.target.map(t => Array.isArray(t) ? t.join(' >>> ') : String(t)),
+                html: n.html
+              }))
+            }))
+            """;
+
+    /** In-page function returning the {@code rule_<id>} measures of axe's performance timer, in milliseconds. */
+    static final String COLLECT_RULE_TIMINGS = """
             () => {
-              return axe.run(document, {
-                runOnly: {
-                  type: 'tag',
-                  values: ['wcag2a', 'wcag2aa', 'wcag21a', 'wcag21aa']
+              const ruleTimings = {};
+              performance.getEntriesByType('measure')
+                .filter(m => m.name.startsWith('rule_') && !m.name.includes('#'))
+                .forEach(m => ruleTimings[m.name.substring(5)] = m.duration);
+              return ruleTimings;
+            }
+            """;
+
+    private static final String RUN_AND_PROJECT = """
+            async ({ include, exclude, incremental, options, compare }) => {
+              const excluded = exclude.map(selector => [selector]);
+              let context = excluded.length > 0 ? { exclude: excluded } : document;
+              let scope = 'full';
+              const dirty = window.__a11yDirty;
+
+              if (incremental && dirty && window.__a11yBaselineDone) {
+                const changed = [...dirty].filter(el => el.isConnected);
+                const roots = changed.filter(el => !changed.some(other => other !== el && other.contains(el)));
+                dirty.clear();
+                if (roots.length === 0) {
+                  return JSON.stringify({ violations: [], scope: 'unchanged' });
                 }
-              });
+                context = { include: roots, exclude: excluded };
+                scope = 'partial';
+              } else if (include.length > 0) {
+                context = { include: include.map(selector => [selector]), exclude: excluded };
+                scope = 'scoped';
+              } else if (incremental && dirty) {
+                dirty.clear();
+                window.__a11yBaselineDone = true;
+              }
+
+              const runOptions = compare ? options : { ...options, resultTypes: ['violations'] };
+              if (options.performanceTimer) {
+                performance.clearMeasures();
+              }
+              const result = await axe.run(context, runOptions);
+              const violations = ("""
+            + PROJECT_VIOLATIONS
+            + """
+              )(result.violations);
+              const payload = { violations, scope };
+              if (scope === 'scoped') {
+                const regions = include.map(selector => [...document.querySelectorAll(selector)]);
+                payload.regions = result.violations.map(v => v.nodes.map(n => {
+                  const first = n.target[0];
+                  const el = document.querySelector(Array.isArray(first) ? first[0] : first);
+                  return el ? regions.findIndex(roots => roots.some(root => root.contains(el))) : -1;
+                }));
+              }
+              if (options.performanceTimer) {
+                payload.ruleTimings = ("""
+            + COLLECT_RULE_TIMINGS
+            + """
+                )();
+              }
+              if (compare) {
+                payload.fullBytes = JSON.stringify(result).length;
+              }
+              return JSON.stringify(payload);
             }
-        """);
+            """;
+
+    private AxeScanExecutor() {}
+
+    public static String runFullScan(Page page) {
+        return run(page, List.of(), List.of(), false);
     }
 
-    @SuppressWarnings("unchecked")
-    public static Map<String, Object> runScopedScan(Page page, String cssSelector) {
-        AxeScriptLoader.injectAxe(page);
+    public static String runScopedScan(Page page, String cssSelector) {
+        return runScopedScan(page, List.of(cssSelector));
+    }
+
+    /**
+     * Scans every element matching any of the selectors.
+     *
+     * @param page {@link Page} the page to scan
+     * @param includeSelectors {@link List} CSS selectors of the regions to include
+     * @return {@link String} the scan payload
+     */
+    public static String runScopedScan(Page page, List<String> includeSelectors) {
+        return runScopedScan(page, includeSelectors, List.of());
+    }
+
+    /**
+     * Scans every element matching any of the include selectors, skipping elements matching
+     * the exclude selectors or {@code accessibility.excludeSelectors}, in a single axe run.
+     *
+     * @param page {@link Page} the page to scan
+     * @param includeSelectors {@link List} CSS selectors of the regions to include
+     * @param excludeSelectors {@link List} CSS selectors of elements to leave out
+     * @return {@link String} the scan payload, for {@link #parse(String)} or {@link #parseByRegion(String, List)}
+     */
+    public static String runScopedScan(Page page, List<String> includeSelectors, List<String> excludeSelectors) {
+        return run(page, includeSelectors, excludeSelectors, false);
+    }
+
+    /**
+     * Scans only the subtrees changed since the previous scan of this document, as tracked by
+     * {@link DomChangeTracker}; the first scan of each document is a full scan.
+     *
+     * @param page {@link Page} the page to scan
+     * @return {@link String} the scan payload
+     */
+    public static String runIncrementalScan(Page page) {
+        return run(page, List.of(), List.of(), true);
+    }
+
+    /**
+     * Parses a payload returned by a scan, recording its size and parse time.
+     *
+     * @param payload {@link String} the JSON returned by {@link #runFullScan(Page)} or {@link #runScopedScan(Page, String)}
+     * @return {@link AxeResult} the parsed result
+     */
+    public static AxeResult parse(String payload) {
+        return parseDetailed(payload).result();
+    }
+
+    /**
+     * Parses a scoped scan payload and splits its violations by region.
+     *
+     * @param payload {@link String} the JSON returned by {@link #runScopedScan(Page, List, List)}
+     * @param includeSelectors {@link List} the include selectors the scan was run with
+     * @return {@link Map} one result per include selector, in the given order, followed by an
+     *         {@link #UNATTRIBUTED} result if any failing node could not be matched to a region
+     */
+    public static Map<String, AxeResult> parseByRegion(String payload, List<String> includeSelectors) {
+        AxeResultParser.Parsed parsed = parseDetailed(payload);
+
+        Map<String, List<AxeViolation>> byRegion = new LinkedHashMap<>();
+        includeSelectors.forEach(selector -> byRegion.put(selector, new ArrayList<>()));
+        List<AxeViolation> unattributed = new ArrayList<>();
 
-        return (Map<String, Object>) page.evaluate("""
-            (selector) => {
-              const context = document.querySelector(selector);
-              return axe.run(context);
+        List<AxeViolation> violations = parsed.result().violations();
+        for (int v = 0; v < violations.size(); v++) {
+            AxeViolation violation = violations.get(v);
+            int[] regions = v < parsed.nodeRegions().size() ? parsed.nodeRegions().get(v) : new int[0];
+
+            // A target that cannot be resolved (e.g. inside a shadow root or iframe) has no region
+            Map<Integer, List<AxeNode>> nodesByRegion = new LinkedHashMap<>();
+            for (int n = 0; n < violation.nodes().size(); n++) {
+                int region = n < regions.length && regions[n] >= 0 ? regions[n] : -1;
+                nodesByRegion.computeIfAbsent(region, r -> new ArrayList<>()).add(violation.nodes().get(n));
+            }
+
+            nodesByRegion.forEach((region, nodes) -> {
+                AxeViolation split = new AxeViolation(
+                        violation.id(), violation.impact(), violation.description(), violation.help(), nodes);
+                if (region < 0) {
+                    unattributed.add(split);
+                } else {
+                    byRegion.get(includeSelectors.get(region)).add(split);
+                }
+            });
+        }
+        if (!unattributed.isEmpty()) {
+            byRegion.put(UNATTRIBUTED, unattributed);
+        }
+
+        Map<String, AxeResult> results = new LinkedHashMap<>();
+        byRegion.forEach((selector, regionViolations) -> results.put(selector, new AxeResult(regionViolations)));
+        return results;
+    }
+
+    static AxeResultParser.Parsed parseDetailed(String payload) {
+        return parseDetailed(payload, true);
+    }
+
+    /**
+     * Parses a payload and records its size and parse time.
+     *
+     * @param payload {@link String} the scan payload
+     * @param countScan {@code boolean} false for a part of a scan already counted, e.g. one rule group of a sharded scan
+     * @return {@link AxeResultParser.Parsed} the parsed payload
+     */
+    static AxeResultParser.Parsed parseDetailed(String payload, boolean countScan) {
+        long start = System.nanoTime();
+        AxeResultParser.Parsed parsed = AxeResultParser.parse(payload);
+        long parseNanos = System.nanoTime() - start;
+
+        if (countScan) {
+            SCANS.incrementAndGet();
+        }
+        PAYLOAD_BYTES.addAndGet(payload.length());
+        PARSE_NANOS.addAndGet(parseNanos);
+        if (parsed.fullBytes() > 0) {
+            FULL_PAYLOAD_BYTES.addAndGet(parsed.fullBytes());
+        }
+        if (!parsed.ruleTimings().isEmpty()) {
+            AxeTimingReport.recordRules(parsed.ruleTimings());
+            AxeRuleSharding.recordTimings(parsed.ruleTimings());
+        }
+        if (DomChangeTracker.isEnabled()) {
+            switch (parsed.scope()) {
+                case "full" -> INCREMENTAL_FULL.incrementAndGet();
+                case "partial" -> INCREMENTAL_PARTIAL.incrementAndGet();
+                case "unchanged" -> INCREMENTAL_UNCHANGED.incrementAndGet();
+                default -> { }
             }
-        """, cssSelector);
+        }
+
+        log.debug("AXE scope={}, payload chars={}, fullChars={}, parseUs={}, violations={}",
+                parsed.scope(), payload.length(), parsed.fullBytes(), parseNanos / 1_000, parsed.result().violations().size());
+        return parsed;
+    }
+
+    /**
+     * Logs payload sizes and parse time accumulated over the run.
+     */
+    public static void logSummary() {
+        int scans = SCANS.getAndSet(0);
+        long payloadBytes = PAYLOAD_BYTES.getAndSet(0);
+        long fullBytes = FULL_PAYLOAD_BYTES.getAndSet(0);
+        long parseMs = PARSE_NANOS.getAndSet(0) / 1_000_000;
+
+        int full = INCREMENTAL_FULL.getAndSet(0);
+        int partial = INCREMENTAL_PARTIAL.getAndSet(0);
+        int unchanged = INCREMENTAL_UNCHANGED.getAndSet(0);
+
+        if (scans == 0) {
+            return;
+        }
+
+        if (full + partial + unchanged > 0) {
+            log.info("AXE incremental scans: full={}, partial={}, unchanged={}", full, partial, unchanged);
+        }
+
+        log.info("AXE scans={}, payloadChars={}, avgPayloadChars={}, parseMs={}", scans, payloadBytes, payloadBytes / scans, parseMs);
+        if (fullBytes > 0) {
+            log.info("AXE full result chars={} (slim payload is {}% of full)", fullBytes, 100 * payloadBytes / fullBytes);
+        }
+    }
+
+    private static String run(Page page, List<String> includeSelectors, List<String> excludeSelectors, boolean incremental) {
+        AxeScriptLoader.injectAxe(page);
+        AxeScanOptions options = AxeScanOptions.current();
+
+        List<String> exclude = new ArrayList<>(options.excludeSelectors());
+        exclude.addAll(excludeSelectors);
+
+        long start = System.nanoTime();
+        String payload = (String) page.evaluate(RUN_AND_PROJECT, Map.of(
+                "include", includeSelectors,
+                "exclude", exclude,
+                "incremental", incremental,
+                "options", options.runOptions(),
+                "compare", ConfigReader.getBool("accessibility.comparePayload")));
+        AxeTimingReport.recordPage(page.url(), (System.nanoTime() - start) / 1_000_000.0);
+
+        return payload;
     }
 }
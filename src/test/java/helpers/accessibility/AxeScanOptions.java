@@ -0,0 +1,99 @@
+package helpers.accessibility;
+
+import config.ConfigReader;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Typed view of the {@code accessibility.*} configuration, built once per run.
+ *
+ * <p>Drives both what axe checks ({@link AxeScanExecutor}) and what fails a scenario
+ * ({@link AccessibilityPolicy}), so the two can no longer disagree.</p>
+ *
+ * @param tags rule tags to run ({@code accessibility.tags})
+ * @param excludeSelectors CSS selectors of regions never scanned ({@code accessibility.excludeSelectors})
+ * @param incremental whether {@code accessibility.scanMode=incremental}
+ * @param failOnImpact impacts that fail a scenario ({@code accessibility.failOnImpact})
+ * @param ruleTiming whether axe's per-rule performance timer is on ({@code accessibility.ruleTiming})
+ * @param reportDir where reports and timing exports are written ({@code accessibility.reportDir})
+ */
+public record AxeScanOptions(
+        List<String> tags,
+        List<String> excludeSelectors,
+        boolean incremental,
+        Set<String> failOnImpact,
+        boolean ruleTiming,
+        Path reportDir
+) {
+
+    /**
+     * Gets the options for this run.
+     *
+     * @return {@link AxeScanOptions} the options built from configuration on first use
+     */
+    public static AxeScanOptions current() {
+        return Holder.CURRENT;
+    }
+
+    static AxeScanOptions fromConfig() {
+        return new AxeScanOptions(
+                list("accessibility.tags"),
+                list("accessibility.excludeSelectors"),
+                "incremental".equalsIgnoreCase(ConfigReader.get("accessibility.scanMode")),
+                Set.copyOf(list("accessibility.failOnImpact")),
+                ConfigReader.getBool("accessibility.ruleTiming"),
+                Path.of(ConfigReader.get("accessibility.reportDir")));
+    }
+
+    /**
+     * Builds the {@code axe.run} options object.
+     *
+     * @return {@link Map} the options, serialised by Playwright into the page
+     */
+    public Map<String, Object> runOptions() {
+        Map<String, Object> options = new LinkedHashMap<>();
+        options.put("runOnly", Map.of("type", "tag", "values", tags));
+        options.put("performanceTimer", ruleTiming);
+        return options;
+    }
+
+    /**
+     * Identifies the parts of the options that change scan results, for result caching.
+     *
+     * @return {@link String} tags and excluded selectors
+     */
+    public String resultKey() {
+        return String.join(",", tags) + "|" + String.join(",", excludeSelectors);
+    }
+
+    /**
+     * Indicates whether a violation of the given impact fails the scenario.
+     *
+     * @param impact {@link String} the axe impact (minor, moderate, serious, critical)
+     * @return {@code boolean} true if the impact is configured to fail
+     */
+    public boolean failsOn(String impact) {
+        return impact != null && failOnImpact.contains(impact);
+    }
+
+    private static List<String> list(String key) {
+        String value = ConfigReader.get(key);
+        if (value == null || value.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    private static final class Holder {
+        private static final AxeScanOptions CURRENT = fromConfig();
+    }
+}
@@ -1,28 +1,132 @@
 package helpers.accessibility;
 
 import com.microsoft.playwright.Page;
+import config.ConfigReader;
+import driver.ContextFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+/**
+ * Loads axe-core once per JVM and makes it available to pages.
+ *
+ * <p>With {@code accessibility.axeInjection=initScript} axe is added to every new context as an
+ * init script, so it is already present when a page loads. Otherwise ({@code lazy}) it is
+ * injected with a script tag only when {@code window.axe} is missing, so repeated scans of the
+ * same document reuse the copy already in the page.</p>
+ */
 public final class AxeScriptLoader {
 
+    private static final Logger log = LoggerFactory.getLogger(AxeScriptLoader.class);
+
+    private static final AtomicInteger INJECTIONS = new AtomicInteger();
+    private static final AtomicInteger INJECTIONS_AVOIDED = new AtomicInteger();
+    private static final AtomicLong BYTES_SAVED = new AtomicLong();
+
+    private static volatile boolean initScriptRegistered;
+
     private AxeScriptLoader() {}
 
-    public static void injectAxe(Page page) {
-        try (InputStream is = AxeScriptLoader.class
-                .getClassLoader()
-                .getResourceAsStream("axe/axe.min.js")) {
+    /**
+     * Registers axe as a context init script when {@code accessibility.axeInjection=initScript}.
+     * Must run before the scenario's context is created; later calls do nothing.
+     */
+    public static void registerInitScriptIfEnabled() {
+        if (initScriptRegistered || !"initScript".equalsIgnoreCase(ConfigReader.get("accessibility.axeInjection"))) {
+            return;
+        }
 
-            if (is == null) {
-                throw new IllegalStateException("axe.min.js not found under src/test/resources/axe");
+        synchronized (AxeScriptLoader.class) {
+            if (!initScriptRegistered) {
+                ContextFactory.registerInitScript(Script.SOURCE);
+                initScriptRegistered = true;
+                log.info("AXE registered as context init script ({} bytes)", Script.BYTES);
             }
+        }
+    }
 
-            String script = new String(is.readAllBytes(), StandardCharsets.UTF_8);
-            page.addScriptTag(new Page.AddScriptTagOptions().setContent(script));
+    /**
+     * Makes sure axe is loaded in the page's current document, injecting it only if missing.
+     *
+     * @param page {@link Page} the page to scan
+     */
+    public static void injectAxe(Page page) {
+        Object present = page.evaluate("() => typeof window.axe !== 'undefined'");
+
+        if (Boolean.TRUE.equals(present)) {
+            INJECTIONS_AVOIDED.incrementAndGet();
+            BYTES_SAVED.addAndGet(Script.BYTES);
+            return;
+        }
 
+        try {
+            // The script has run once added; removing the tag keeps the DOM (and its fingerprint) unchanged
+            page.addScriptTag(new Page.AddScriptTagOptions().setContent(Script.SOURCE))
+                    .evaluate("script => script.remove()");
+            INJECTIONS.incrementAndGet();
         } catch (Exception e) {
             throw new RuntimeException("Failed to inject axe-core", e);
         }
     }
+
+    /**
+     * Gets the bundled axe-core version, read from the script's licence header.
+     *
+     * @return {@link String} e.g. {@code 4.11.0}, or {@code unknown}
+     */
+    public static String version() {
+        return Script.VERSION;
+    }
+
+    /**
+     * Logs how often axe was injected versus found already loaded.
+     */
+    public static void logSummary() {
+        int injected = INJECTIONS.getAndSet(0);
+        int avoided = INJECTIONS_AVOIDED.getAndSet(0);
+        long bytesSaved = BYTES_SAVED.getAndSet(0);
+
+        if (injected + avoided > 0) {
+            log.info("AXE injections={}, avoided={}, bytesSaved={}", injected, avoided, bytesSaved);
+        }
+    }
+
+    /**
+     * The axe-core source, read from the classpath on first use.
+     */
+    private static final class Script {
+
+        private static final String SOURCE = read();
+        private static final long BYTES = SOURCE.getBytes(StandardCharsets.UTF_8).length;
+        private static final String VERSION = readVersion();
+
+        private static String readVersion() {
+            Matcher matcher = Pattern.compile("axe v(\\S+)").matcher(SOURCE.substring(0, Math.min(200, SOURCE.length())));
+            return matcher.find() ? matcher.group(1) : "unknown";
+        }
+
+        private static String read() {
+            try (InputStream is = AxeScriptLoader.class
+                    .getClassLoader()
+                    .getResourceAsStream("axe/axe.min.js")) {
+
+                if (is == null) {
+                    throw new IllegalStateException("axe.min.js not found under src/test/resources/axe");
+                }
+
+                return new String(is.readAllBytes(), StandardCharsets.UTF_8);
+
+            } catch (IllegalStateException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new RuntimeException("Failed to load axe-core", e);
+            }
+        }
+    }
 }
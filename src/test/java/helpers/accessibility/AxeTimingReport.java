@@ -0,0 +1,101 @@
+package helpers.accessibility;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Accumulates axe scan time per rule and per page over the run.
+ *
+ * <p>Rule times come from axe's performance timer ({@code accessibility.ruleTiming=true}); page
+ * times are the wall-clock duration of each scan. At the end of the run the totals are written
+ * to {@code <accessibility.reportDir>/axe-timings.json} and the most expensive rules are logged.</p>
+ */
+public final class AxeTimingReport {
+
+    private static final Logger log = LoggerFactory.getLogger(AxeTimingReport.class);
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private static final int TOP_RULES = 5;
+
+    private static final Map<String, Totals> RULES = new ConcurrentHashMap<>();
+    private static final Map<String, Totals> PAGES = new ConcurrentHashMap<>();
+
+    private AxeTimingReport() {}
+
+    static void recordRules(Map<String, Double> ruleTimings) {
+        ruleTimings.forEach((rule, ms) -> RULES.computeIfAbsent(rule, r -> new Totals()).add(ms));
+    }
+
+    static void recordPage(String url, double ms) {
+        PAGES.computeIfAbsent(url, u -> new Totals()).add(ms);
+    }
+
+    /**
+     * Writes the timing export and logs the rules that dominate scan cost.
+     */
+    public static void writeAndLog() {
+        if (RULES.isEmpty() && PAGES.isEmpty()) {
+            return;
+        }
+
+        Map<String, Object> export = new LinkedHashMap<>();
+        export.put("rules", sortedByTotal(RULES));
+        export.put("pages", sortedByTotal(PAGES));
+
+        Path file = AxeScanOptions.current().reportDir().resolve("axe-timings.json");
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            MAPPER.writeValue(file.toFile(), export);
+        } catch (Exception e) {
+            log.warn("AXE timings could not be written to {}: {}", file, e.getMessage());
+        }
+
+        sortedByTotal(RULES).entrySet().stream().limit(TOP_RULES).forEach(e ->
+                log.info("AXE rule {}: totalMs={}, scans={}", e.getKey(),
+                        Math.round(e.getValue().get("totalMs")), Math.round(e.getValue().get("scans"))));
+        log.info("AXE timings written to {}", file);
+
+        RULES.clear();
+        PAGES.clear();
+    }
+
+    private static Map<String, Map<String, Double>> sortedByTotal(Map<String, Totals> totals) {
+        Map<String, Map<String, Double>> sorted = new LinkedHashMap<>();
+        totals.entrySet().stream()
+                .sorted(Comparator.comparingDouble((Map.Entry<String, Totals> e) -> e.getValue().totalMs).reversed())
+                .forEach(e -> sorted.put(e.getKey(), e.getValue().toMap()));
+        return sorted;
+    }
+
+    /**
+     * Running totals for one rule or page.
+     */
+    private static final class Totals {
+
+        private int scans;
+        private double totalMs;
+
+        synchronized void add(double ms) {
+            scans++;
+            totalMs += ms;
+        }
+
+        synchronized Map<String, Double> toMap() {
+            Map<String, Double> map = new LinkedHashMap<>();
+            map.put("scans", (double) scans);
+            map.put("totalMs", totalMs);
+            map.put("avgMs", scans == 0 ? 0 : totalMs / scans);
+            return map;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package helpers.accessibility;
+
+import driver.ContextFactory;
+import helpers.ui.DomVersion;
+
+/**
+ * Tracks which DOM subtrees changed since the last axe scan, for
+ * {@code accessibility.scanMode=incremental}.
+ *
+ * <p>Listens to the document's {@link DomVersion} observer, installed in every new document
+ * through a context init script. Added elements and elements whose attributes, text or children
+ * changed are collected in
+ * {@code window.__a11yDirty}; {@link AxeScanExecutor#runIncrementalScan} then audits only the
+ * outermost of those roots. A navigation loads a new document with an empty baseline, so the
+ * first scan after it is a full scan.</p>
+ */
+public final class DomChangeTracker {
+
+    private static final String OBSERVER = """
+            (() => {
+              if (window.__a11yDirty) {
+                return;
+              }
+              const dirty = new Set();
+              window.__a11yDirty = dirty;
+              window.__a11yBaselineDone = false;
+
+              const mark = node => {
+                const el = node.nodeType === Node.ELEMENT_NODE ? node : node.parentElement;
+                if (el && el.tagName !== 'SCRIPT' && el.tagName !== 'STYLE') {
+                  dirty.add(el);
+                }
+              };
+
+              ("""
+            + DomVersion.INSTALL
+            + """
+              )().listeners.push(records => {
+                for (const r of records) {
+                  if (r.type === 'childList') {
+                    r.addedNodes.forEach(mark);
+                    if ([...r.removedNodes].some(n => n.nodeName !== 'SCRIPT')) {
+                      mark(r.target);
+                    }
+                  } else {
+                    mark(r.target);
+                  }
+                }
+              });
+            })();
+            """;
+
+    private static volatile boolean registered;
+
+    private DomChangeTracker() {}
+
+    /**
+     * Indicates whether incremental scanning is configured.
+     *
+     * @return {@code boolean} true if {@code accessibility.scanMode=incremental}
+     */
+    public static boolean isEnabled() {
+        return AxeScanOptions.current().incremental();
+    }
+
+    /**
+     * Registers the observer as a context init script when incremental scanning is enabled.
+     * Must run before the scenario's context is created; later calls do nothing.
+     */
+    public static void registerInitScriptIfEnabled() {
+        if (registered || !isEnabled()) {
+            return;
+        }
+
+        synchronized (DomChangeTracker.class) {
+            if (!registered) {
+                ContextFactory.registerInitScript(OBSERVER);
+                registered = true;
+            }
+        }
+    }
+}
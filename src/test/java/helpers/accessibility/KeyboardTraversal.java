@@ -0,0 +1,263 @@
+package helpers.accessibility;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microsoft.playwright.Page;
+import config.ConfigReader;
+import driver.DriverManager;
+import helpers.ui.DomVersion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+
+/**
+ * Computes and checks the page's keyboard tab order without one key press per element.
+ *
+ * <p>A single evaluate call builds the sequential focus order (positive {@code tabindex} first,
+ * then document order; disabled, hidden, inert and {@code tabindex="-1"} elements skipped; one
+ * stop per radio group), then focuses each stop in turn and compares its computed outline,
+ * box-shadow, border, background and text styling with the unfocused state. One Tab press
+ * before that pass puts the browser in keyboard modality, so programmatic focus matches
+ * {@code :focus-visible} styles, and CSS transitions and animations are switched off through an
+ * adopted stylesheet (which leaves the DOM version unchanged) so the focused style is read
+ * at its final value. Programmatic focus is still not identical to keyboard focus (e.g. key
+ * handlers), so {@code accessibility.keyboard.sampleSize} evenly spaced stops are then verified
+ * with real Tab presses, which also reveals focus traps; a sampled stop's focus indicator is
+ * taken from its Tab press.</p>
+ */
+public final class KeyboardTraversal {
+
+    private static final Logger log = LoggerFactory.getLogger(KeyboardTraversal.class);
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /** In-page function summarising the computed styles that can show focus. */
+    private static final String FOCUS_STYLE = """
+            el => {
+              const style = window.getComputedStyle(el);
+              return ['outlineStyle', 'outlineWidth', 'outlineColor', 'boxShadow', 'borderColor',
+                      'backgroundColor', 'color', 'textDecorationLine'].map(p => style[p]).join('|');
+            }
+            """;
+
+    private static final String FOCUS_STYLE_OF = """
+            selector => {
+              const el = document.querySelector(selector);
+              return el ? ("""
+            + FOCUS_STYLE
+            + """
+              )(el) : null;
+            }
+            """;
+
+    private static final String DISABLE_TRANSITIONS = """
+            () => {
+              const sheet = new CSSStyleSheet();
+              sheet.replaceSync('*, *::before, *::after { transition: none !important; animation: none !important; }');
+              document.adoptedStyleSheets = [...document.adoptedStyleSheets, sheet];
+              window.__a11yNoTransitions = sheet;
+            }
+            """;
+
+    private static final String RESTORE_TRANSITIONS = """
+            () => {
+              const sheet = window.__a11yNoTransitions;
+              if (sheet) {
+                document.adoptedStyleSheets = document.adoptedStyleSheets.filter(s => s !== sheet);
+                delete window.__a11yNoTransitions;
+              }
+            }
+            """;
+
+    private static final String TRAVERSE = """
+            () => {
+              const selectorOf = ("""
+            + DomVersion.SELECTOR_OF
+            + """
+              );
+              const nameOf = el => (el.getAttribute('aria-label')
+                || (el.labels && el.labels[0] && el.labels[0].innerText)
+                || el.innerText || el.value || '').trim().slice(0, 80);
+              const isRendered = el => {
+                if (el.closest('[inert], [hidden], [aria-hidden="true"]')) return false;
+                const style = window.getComputedStyle(el);
+                return style.visibility !== 'hidden' && style.display !== 'none' && el.getClientRects().length > 0;
+              };
+
+              const candidates = Array.from(document.querySelectorAll(
+                'a[href], area[href], button, input, select, textarea, iframe, summary, '
+                + '[tabindex], [contenteditable="true"], audio[controls], video[controls]'))
+                .filter(el => !el.disabled && el.tabIndex >= 0 && !(el.tagName === 'INPUT' && el.type === 'hidden'))
+                .filter(isRendered);
+
+              const radioGroups = new Set();
+              const reachable = candidates.filter(el => {
+                if (el.tagName !== 'INPUT' || el.type !== 'radio' || !el.name) return true;
+                const group = (el.form ? 'form' : 'doc') + ':' + el.name;
+                const checked = document.querySelector(`input[type=radio][name="${CSS.escape(el.name)}"]:checked`);
+                if (checked ? checked !== el : radioGroups.has(group)) return false;
+                radioGroups.add(group);
+                return true;
+              });
+
+              const order = reachable
+                .map((el, index) => ({ el, index }))
+                .sort((a, b) => {
+                  const ta = a.el.tabIndex, tb = b.el.tabIndex;
+                  if (ta > 0 && tb > 0) return ta - tb || a.index - b.index;
+                  if (ta > 0) return -1;
+                  if (tb > 0) return 1;
+                  return a.index - b.index;
+                })
+                .map(entry => entry.el);
+
+              const snapshot = ("""
+            + FOCUS_STYLE
+            + """
+              );
+
+              const original = document.activeElement;
+              const stops = order.map(el => {
+                if (document.activeElement && document.activeElement !== document.body) {
+                  document.activeElement.blur();
+                }
+                const before = snapshot(el);
+                el.focus({ preventScroll: true });
+                const receivedFocus = document.activeElement === el;
+                const after = snapshot(el);
+                return { selector: selectorOf(el), name: nameOf(el), receivedFocus, focusIndicator: receivedFocus && before !== after };
+              });
+
+              if (document.activeElement) document.activeElement.blur();
+              if (original && original !== document.body) original.focus({ preventScroll: true });
+
+              return JSON.stringify(stops);
+            }
+            """;
+
+    private static final Map<Page, Cached> CACHE = new WeakHashMap<>();
+
+    private record Cached(String domVersion, KeyboardTraversalReport report) {}
+
+    private KeyboardTraversal() {}
+
+    /**
+     * Returns the tab order of the current page, traversing it again only when the DOM has
+     * changed since the last traversal (per the document's {@link DomVersion}).
+     *
+     * @return {@link KeyboardTraversalReport} the tab order and any problems found
+     */
+    public static KeyboardTraversalReport current() {
+        Page page = DriverManager.page();
+        if (page == null) {
+            throw new IllegalStateException("Playwright Page is not initialised.");
+        }
+
+        String version = DomVersion.of(page);
+        Cached cached;
+        synchronized (CACHE) {
+            cached = CACHE.get(page);
+        }
+        if (cached != null && cached.domVersion().equals(version)) {
+            return cached.report();
+        }
+
+        KeyboardTraversalReport report = run(page);
+        synchronized (CACHE) {
+            CACHE.put(page, new Cached(version, report));
+        }
+        return report;
+    }
+
+    private static KeyboardTraversalReport run(Page page) {
+        page.evaluate(DISABLE_TRANSITIONS);
+        try {
+            page.keyboard().press("Tab");
+            List<KeyboardTraversalReport.FocusStop> order = new ArrayList<>(parse((String) page.evaluate(TRAVERSE)));
+
+            List<String> traps = new ArrayList<>();
+            List<String> mismatches = new ArrayList<>();
+            for (int index : sampleIndexes(order.size() - 1, ConfigReader.getInt("accessibility.keyboard.sampleSize"))) {
+                String from = order.get(index).selector();
+                String expected = order.get(index + 1).selector();
+
+                page.locator(from).first().focus();
+                String unfocusedStyle = (String) page.evaluate(FOCUS_STYLE_OF, expected);
+                page.keyboard().press("Tab");
+
+                boolean stayed = Boolean.TRUE.equals(page.evaluate("sel => document.activeElement === document.querySelector(sel)", from));
+                boolean arrived = Boolean.TRUE.equals(page.evaluate("sel => document.activeElement === document.querySelector(sel)", expected));
+                if (stayed) {
+                    traps.add(from);
+                } else if (!arrived) {
+                    mismatches.add(from + " -> expected " + expected);
+                } else {
+                    KeyboardTraversalReport.FocusStop stop = order.get(index + 1);
+                    boolean indicator = !Objects.equals(unfocusedStyle, page.evaluate(FOCUS_STYLE_OF, expected));
+                    order.set(index + 1, new KeyboardTraversalReport.FocusStop(stop.selector(), stop.name(), true, indicator));
+                }
+            }
+
+            List<String> withoutIndicator = order.stream()
+                    .filter(stop -> !stop.focusIndicator())
+                    .map(KeyboardTraversalReport.FocusStop::selector)
+                    .toList();
+
+            KeyboardTraversalReport report = new KeyboardTraversalReport(List.copyOf(order), traps, withoutIndicator, mismatches);
+            logReport(page.url(), report);
+            return report;
+        } finally {
+            page.evaluate(RESTORE_TRANSITIONS);
+        }
+    }
+
+    private static List<KeyboardTraversalReport.FocusStop> parse(String json) {
+        try {
+            return List.of(MAPPER.readValue(json, KeyboardTraversalReport.FocusStop[].class));
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to parse keyboard traversal", e);
+        }
+    }
+
+    /**
+     * Picks up to {@code sampleSize} evenly spaced stop indexes that have a successor.
+     */
+    private static List<Integer> sampleIndexes(int stopsWithSuccessor, int sampleSize) {
+        List<Integer> indexes = new ArrayList<>();
+        if (stopsWithSuccessor <= 0 || sampleSize <= 0) {
+            return indexes;
+        }
+
+        int samples = Math.min(sampleSize, stopsWithSuccessor);
+        for (int i = 0; i < samples; i++) {
+            int index = (samples == 1) ? 0 : (int) Math.round(i * (stopsWithSuccessor - 1) / (double) (samples - 1));
+            if (!indexes.contains(index)) {
+                indexes.add(index);
+            }
+        }
+        return indexes;
+    }
+
+    private static void logReport(String url, KeyboardTraversalReport report) {
+        log.info("KEYBOARD tab order on {} ({} stops):", url, report.tabOrder().size());
+        int position = 1;
+        for (KeyboardTraversalReport.FocusStop stop : report.tabOrder()) {
+            log.info("KEYBOARD {}. {} \"{}\"{}{}", position++, stop.selector(), stop.name(),
+                    stop.receivedFocus() ? "" : " [not focusable]",
+                    stop.focusIndicator() ? "" : " [no focus indicator]");
+        }
+        if (!report.focusTraps().isEmpty()) {
+            log.warn("KEYBOARD focus traps: {}", report.focusTraps());
+        }
+        if (!report.orderMismatches().isEmpty()) {
+            log.warn("KEYBOARD tab order mismatches: {}", report.orderMismatches());
+        }
+        if (!report.withoutFocusIndicator().isEmpty()) {
+            log.warn("KEYBOARD no focus indicator: {}", report.withoutFocusIndicator());
+        }
+    }
+}
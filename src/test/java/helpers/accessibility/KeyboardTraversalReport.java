@@ -0,0 +1,35 @@
+package helpers.accessibility;
+
+import java.util.List;
+
+/**
+ * Result of a {@link KeyboardTraversal}.
+ *
+ * @param tabOrder every stop in sequential focus order
+ * @param focusTraps selectors of sampled elements where a real Tab key press did not move focus
+ * @param withoutFocusIndicator selectors of stops whose appearance did not change when focused
+ * @param orderMismatches sampled Tab presses that landed somewhere other than the computed next stop
+ */
+public record KeyboardTraversalReport(
+        List<FocusStop> tabOrder,
+        List<String> focusTraps,
+        List<String> withoutFocusIndicator,
+        List<String> orderMismatches
+) {
+
+    /**
+     * One element in the tab order.
+     *
+     * @param selector CSS selector of the element
+     * @param name accessible name approximation (aria-label, label text or text content)
+     * @param receivedFocus whether {@code focus()} (or, for sampled stops, a Tab press) made it the active element
+     * @param focusIndicator whether outline, box-shadow, border, background or text styling changed on focus
+     *                       (for sampled stops, on the real Tab press)
+     */
+    public record FocusStop(
+            String selector,
+            String name,
+            boolean receivedFocus,
+            boolean focusIndicator
+    ) {}
+}
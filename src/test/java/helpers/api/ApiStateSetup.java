@@ -0,0 +1,110 @@
+package helpers.api;
+
+import com.microsoft.playwright.APIRequestContext;
+import com.microsoft.playwright.APIResponse;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.options.FormData;
+import com.microsoft.playwright.options.RequestOptions;
+import config.ConfigReader;
+import driver.DriverManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+
+/**
+ * Puts the app into a required state with plain HTTP form posts instead of page journeys.
+ *
+ * <p>Requests are sent through the scenario's {@link BrowserContext#request()}, which shares
+ * its cookie jar with the context: a session created here is immediately visible to the page.
+ * Enabled via {@code stateSetup=api}; callers fall back to the UI when it is off or fails.</p>
+ *
+ * <p>Only the signed-in precondition is set up this way. The forgotten password and forgotten
+ * username forms are the behaviour under test in their features, so they stay UI journeys.</p>
+ *
+ * <p>This class must NOT contain assertions.</p>
+ */
+public final class ApiStateSetup {
+
+    private static final Logger log = LoggerFactory.getLogger(ApiStateSetup.class);
+
+    private ApiStateSetup() {
+        // Utility class
+    }
+
+    /**
+     * Indicates whether API state setup is enabled by configuration.
+     *
+     * @return {@code boolean} true if {@code stateSetup=api}
+     */
+    public static boolean isEnabled() {
+        return "api".equalsIgnoreCase(ConfigReader.get("stateSetup"));
+    }
+
+    /**
+     * Signs in by posting the Sign in form directly.
+     *
+     * @param username username
+     * @param password password
+     * @return {@code boolean} true if the app redirected to the Signed in page
+     */
+    public static boolean signIn(String username, String password) {
+        FormResult result = postForm("/sign-in", Map.of(
+                "username", username,
+                "password", password
+        ));
+        return result.finalUrl().endsWith("/signed-in");
+    }
+
+    /**
+     * Posts a form to a relative path using the scenario's cookies and follows redirects.
+     *
+     * @param path relative path of the form action (e.g. "/sign-in")
+     * @param fields form field names and values
+     * @return {@link FormResult} the final status and URL after redirects
+     */
+    private static FormResult postForm(String path, Map<String, String> fields) {
+        String baseUrl = ConfigReader.get("baseUrl");
+        if (baseUrl == null || baseUrl.isBlank()) {
+            throw new IllegalStateException("Missing required configuration property: baseUrl");
+        }
+
+        BrowserContext context = DriverManager.context();
+        if (context == null) {
+            throw new IllegalStateException("Playwright BrowserContext is not initialised.");
+        }
+
+        return postForm(context.request(), baseUrl + path, fields);
+    }
+
+    /**
+     * Posts a form with the given request context and follows redirects.
+     *
+     * @param request {@link APIRequestContext} the request context whose cookies are used and updated
+     * @param url absolute URL of the form action
+     * @param fields form field names and values
+     * @return {@link FormResult} the final status and URL after redirects
+     */
+    static FormResult postForm(APIRequestContext request, String url, Map<String, String> fields) {
+        FormData form = FormData.create();
+        fields.forEach((name, value) -> form.set(name, value == null ? "" : value));
+
+        APIResponse response = request.post(url, RequestOptions.create().setForm(form));
+        try {
+            FormResult result = new FormResult(response.status(), response.url());
+            log.info("STATE POST {} -> {} {}", url, result.status(), result.finalUrl());
+            return result;
+        } finally {
+            response.dispose();
+        }
+    }
+
+    /**
+     * Outcome of a form post.
+     *
+     * @param status HTTP status of the final response
+     * @param finalUrl URL of the final response after redirects
+     */
+    record FormResult(int status, String finalUrl) {
+    }
+}
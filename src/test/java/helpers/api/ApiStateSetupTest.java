@@ -0,0 +1,129 @@
+package helpers.api;
+
+import com.microsoft.playwright.APIRequestContext;
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Posts the sign-in form to a stand-in server that mimics the prototype's redirect and session cookie.
+ *
+ * <p>The tests share one Playwright, which is not thread-safe, so they run on the same thread.
+ * {@link #signInThroughContextRequestSignsInItsPages()} launches Chromium and needs its browser
+ * installed.</p>
+ */
+@Execution(ExecutionMode.SAME_THREAD)
+class ApiStateSetupTest {
+
+    private static HttpServer server;
+    private static Playwright playwright;
+    private static String baseUrl;
+
+    @BeforeAll
+    static void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/sign-in", exchange -> {
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            if ("POST".equals(exchange.getRequestMethod()) && body.contains("username=citizen") && body.contains("password=secret")) {
+                exchange.getResponseHeaders().add("Set-Cookie", "session=abc; Path=/");
+                redirect(exchange, "/signed-in");
+            } else {
+                respond(exchange, 200, "<h1>Sign in</h1>");
+            }
+        });
+        server.createContext("/signed-in", exchange -> {
+            String cookie = exchange.getRequestHeaders().getFirst("Cookie");
+            if (cookie != null && cookie.contains("session=abc")) {
+                respond(exchange, 200, "<h1>Signed in</h1>");
+            } else {
+                redirect(exchange, "/sign-in");
+            }
+        });
+        server.start();
+
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        playwright = Playwright.create();
+    }
+
+    @AfterAll
+    static void stopServer() {
+        if (playwright != null) {
+            playwright.close();
+        }
+        server.stop(0);
+    }
+
+    @Test
+    void validCredentialsFollowRedirectAndKeepSessionCookie() {
+        APIRequestContext request = playwright.request().newContext();
+        try {
+            ApiStateSetup.FormResult result = ApiStateSetup.postForm(request, baseUrl + "/sign-in",
+                    Map.of("username", "citizen", "password", "secret"));
+
+            assertThat(result.status()).isEqualTo(200);
+            assertThat(result.finalUrl()).endsWith("/signed-in");
+            assertThat(request.storageState()).contains("\"session\"");
+        } finally {
+            request.dispose();
+        }
+    }
+
+    @Test
+    void invalidCredentialsStayOnSignIn() {
+        APIRequestContext request = playwright.request().newContext();
+        try {
+            ApiStateSetup.FormResult result = ApiStateSetup.postForm(request, baseUrl + "/sign-in",
+                    Map.of("username", "citizen", "password", "wrong"));
+
+            assertThat(result.finalUrl()).endsWith("/sign-in");
+            assertThat(request.storageState()).doesNotContain("\"session\"");
+        } finally {
+            request.dispose();
+        }
+    }
+
+    @Test
+    void signInThroughContextRequestSignsInItsPages() {
+        try (Browser browser = playwright.chromium().launch()) {
+            BrowserContext context = browser.newContext();
+            ApiStateSetup.FormResult result = ApiStateSetup.postForm(context.request(), baseUrl + "/sign-in",
+                    Map.of("username", "citizen", "password", "secret"));
+
+            Page page = context.newPage();
+            page.navigate(baseUrl + "/signed-in");
+
+            assertThat(result.finalUrl()).endsWith("/signed-in");
+            assertThat(page.url()).endsWith("/signed-in");
+            assertThat(page.textContent("h1")).isEqualTo("Signed in");
+        }
+    }
+
+    private static void redirect(HttpExchange exchange, String location) throws IOException {
+        exchange.getResponseHeaders().add("Location", location);
+        exchange.sendResponseHeaders(302, -1);
+        exchange.close();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String html) throws IOException {
+        byte[] bytes = html.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "text/html");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+}
@@ -0,0 +1,79 @@
+package helpers.ui;
+
+import com.microsoft.playwright.Page;
+
+/**
+ * One DOM version per document, shared by every helper that caches what it read from a page
+ * (body text, accessibility audit, keyboard traversal, incremental axe scans).
+ *
+ * <p>{@link #INSTALL} adds a single MutationObserver per document that counts changes and
+ * passes the mutation records to any listener pushed onto {@code window.__domVersion.listeners}.
+ * Adding or removing only {@code <script>} elements (e.g. injecting axe) does not count. The
+ * version is {@code <document id>:<change count>}; a new document gets a new id, so a version
+ * read before a navigation never matches one read after it.</p>
+ */
+public final class DomVersion {
+
+    /** In-page function installing the observer once per document and returning its state. */
+    public static final String INSTALL = """
+            () => {
+              if (!window.__domVersion) {
+                const state = { id: Math.random().toString(36).slice(2), count: 0, listeners: [] };
+                window.__domVersion = state;
+                new MutationObserver(records => {
+                  const counts = records.some(r => r.type !== 'childList'
+                    || [...r.addedNodes, ...r.removedNodes].some(n => n.nodeName !== 'SCRIPT'));
+                  if (counts) {
+                    state.count++;
+                  }
+                  state.listeners.forEach(listener => listener(records));
+                }).observe(document, { childList: true, subtree: true, attributes: true, characterData: true });
+              }
+              return window.__domVersion;
+            }
+            """;
+
+    /** In-page function returning the current document's version, installing the observer first if needed. */
+    public static final String READ = """
+            () => {
+              const state = ("""
+            + INSTALL
+            + """
+              )();
+              return state.id + ':' + state.count;
+            }
+            """;
+
+    /** In-page function building a CSS selector for an element from the nearest id and {@code :nth-of-type} steps. */
+    public static final String SELECTOR_OF = """
+            el => {
+              const parts = [];
+              for (let node = el; node && node.nodeType === Node.ELEMENT_NODE && node !== document.documentElement; node = node.parentElement) {
+                if (node.id) {
+                  parts.unshift('#' + CSS.escape(node.id));
+                  break;
+                }
+                let index = 1;
+                for (let s = node.previousElementSibling; s; s = s.previousElementSibling) {
+                  if (s.tagName === node.tagName) index++;
+                }
+                parts.unshift(node.tagName.toLowerCase() + ':nth-of-type(' + index + ')');
+              }
+              return parts.join(' > ');
+            }
+            """;
+
+    private DomVersion() {
+        // Utility class
+    }
+
+    /**
+     * Reads the version of the page's current document.
+     *
+     * @param page {@link Page} the page
+     * @return {@link String} the version, {@code <document id>:<change count>}
+     */
+    public static String of(Page page) {
+        return (String) page.evaluate(READ);
+    }
+}
@@ -0,0 +1,125 @@
+package helpers.ui;
+
+import com.microsoft.playwright.Page;
+import driver.DriverManager;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-page snapshot of {@code document.body.innerText}, shared by text assertions.
+ *
+ * <p>Each read sends the {@link DomVersion} of the cached text; the page returns nothing when
+ * the document's version is unchanged, so repeated assertions against the same DOM transfer
+ * the body text once. A main-frame navigation drops the snapshot immediately.</p>
+ *
+ * <p>Hits and characters not transferred are counted per thread for the current step
+ * ({@link #takeStepStats()}) and for the run.</p>
+ */
+public final class PageTextSnapshot {
+
+    private static final Map<Page, Snapshot> CACHE = new WeakHashMap<>();
+    private static final Set<Page> LISTENING = Collections.newSetFromMap(new WeakHashMap<>());
+
+    private static final ThreadLocal<long[]> TL_STEP_STATS = ThreadLocal.withInitial(() -> new long[2]);
+
+    private static final AtomicLong HITS = new AtomicLong();
+    private static final AtomicLong MISSES = new AtomicLong();
+    private static final AtomicLong CHARS_SAVED = new AtomicLong();
+
+    private static final String READ = """
+            (knownVersion) => {
+              const version = ("""
+            + DomVersion.READ
+            + """
+              )();
+              if (version === knownVersion) {
+                return null;
+              }
+              return { version, text: document.body ? document.body.innerText : '' };
+            }
+            """;
+
+    private PageTextSnapshot() {
+        // Utility class
+    }
+
+    /**
+     * Hits and characters saved on this thread since the last call.
+     *
+     * @param hits reads served from the snapshot
+     * @param charsSaved body text characters not transferred thanks to those hits
+     */
+    public record StepStats(long hits, long charsSaved) {}
+
+    /**
+     * Returns the current page's body text, transferring it only if the DOM changed.
+     *
+     * @return {@link String} the body's {@code innerText}
+     */
+    @SuppressWarnings("unchecked")
+    public static String bodyText() {
+        Page page = DriverManager.page();
+        if (page == null) {
+            throw new IllegalStateException("Playwright Page is not initialised.");
+        }
+
+        Snapshot cached;
+        synchronized (CACHE) {
+            if (LISTENING.add(page)) {
+                page.onFrameNavigated(frame -> {
+                    if (frame == page.mainFrame()) {
+                        synchronized (CACHE) {
+                            CACHE.remove(page);
+                        }
+                    }
+                });
+            }
+            cached = CACHE.get(page);
+        }
+
+        Map<String, Object> fresh = (Map<String, Object>) page.evaluate(READ, cached == null ? null : cached.version());
+        if (fresh == null) {
+            long[] step = TL_STEP_STATS.get();
+            step[0]++;
+            step[1] += cached.text().length();
+            HITS.incrementAndGet();
+            CHARS_SAVED.addAndGet(cached.text().length());
+            return cached.text();
+        }
+
+        Snapshot snapshot = new Snapshot((String) fresh.get("version"), (String) fresh.get("text"));
+        synchronized (CACHE) {
+            CACHE.put(page, snapshot);
+        }
+        MISSES.incrementAndGet();
+        return snapshot.text();
+    }
+
+    /**
+     * Returns and resets this thread's counters, for per-step reporting.
+     *
+     * @return {@link StepStats} hits and characters saved since the previous call
+     */
+    public static StepStats takeStepStats() {
+        long[] step = TL_STEP_STATS.get();
+        StepStats stats = new StepStats(step[0], step[1]);
+        step[0] = 0;
+        step[1] = 0;
+        return stats;
+    }
+
+    /**
+     * Returns the run-wide counters as a log fragment.
+     *
+     * @return {@link String} hits, misses and characters saved
+     */
+    public static String summary() {
+        return "hits=" + HITS.get() + ", misses=" + MISSES.get() + ", charsSaved=" + CHARS_SAVED.get();
+    }
+
+    private record Snapshot(String version, String text) {}
+}
@@ -2,6 +2,7 @@ package helpers.ui;
 
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
+import com.microsoft.playwright.TimeoutError;
 import com.microsoft.playwright.options.AriaRole;
 import config.ConfigReader;
 import driver.DriverManager;
@@ -56,30 +57,22 @@ public final class UiActions {
     /**
      * Clicks a control (button or link) by accessible name.
      *
+     * <p>A single button-or-link locator (visible matches only) auto-waits for the control and
+     * is clicked once, whichever role it has.</p>
+     *
      * @param name visible control name
      */
     public static void click(String name) {
-        Locator button = page().getByRole(
-                AriaRole.BUTTON,
-                new Page.GetByRoleOptions().setName(name)
-        );
-
-        if (button.count() > 0 && button.first().isVisible()) {
-            button.first().click();
-            return;
-        }
-
-        Locator link = page().getByRole(
-                AriaRole.LINK,
-                new Page.GetByRoleOptions().setName(name)
-        );
+        Locator control = page().getByRole(AriaRole.BUTTON, new Page.GetByRoleOptions().setName(name))
+                .or(page().getByRole(AriaRole.LINK, new Page.GetByRoleOptions().setName(name)))
+                .filter(new Locator.FilterOptions().setVisible(true))
+                .first();
 
-        if (link.count() > 0 && link.first().isVisible()) {
-            link.first().click();
-            return;
+        try {
+            control.click();
+        } catch (TimeoutError e) {
+            throw new AssertionError("No visible button or link found with name: " + name, e);
         }
-
-        throw new AssertionError("No visible button or link found with name: " + name);
     }
 
     /**
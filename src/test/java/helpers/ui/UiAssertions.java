@@ -2,6 +2,7 @@ package helpers.ui;
 
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
+import com.microsoft.playwright.TimeoutError;
 import driver.DriverManager;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -23,12 +24,26 @@ public final class UiAssertions {
         return page;
     }
 
+    /**
+     * Asserts the URL path ends with the suffix, waiting for a navigation to it if needed.
+     *
+     * @param suffix {@link String} URL suffix (e.g. "/sign-in")
+     */
     public static void assertUrlEndsWith(String suffix) {
-        assertThat(page().url()).endsWith(suffix);
+        try {
+            UiWaits.waitForUrlEndsWith(suffix);
+        } catch (TimeoutError e) {
+            throw new AssertionError("Expected URL ending with " + suffix + " but was " + page().url(), e);
+        }
     }
 
+    /**
+     * Asserts the page title, waiting for it to match after the document loads.
+     *
+     * @param expectedTitle {@link String} the expected title
+     */
     public static void assertTitleIs(String expectedTitle) {
-        assertThat(page().title()).isEqualTo(expectedTitle);
+        UiWaits.waitForTitle(expectedTitle);
     }
 
     public static void assertVisible(Locator locator) {
@@ -40,11 +55,11 @@ public final class UiAssertions {
     }
 
     public static void assertBodyContains(String text) {
-        assertThat(page().locator("body").innerText()).contains(text);
+        assertThat(PageTextSnapshot.bodyText()).contains(text);
     }
 
     public static void assertBodyDoesNotContain(String... fragments) {
-        String body = page().locator("body").innerText();
+        String body = PageTextSnapshot.bodyText();
         for (String fragment : fragments) {
             assertThat(body).doesNotContain(fragment);
         }
@@ -73,7 +88,7 @@ public final class UiAssertions {
      * but forbids messages that single out a specific field.</p>
      */
     public static void assertNoCredentialDisclosure() {
-        String body = page().locator("body").innerText().toLowerCase();
+        String body = PageTextSnapshot.bodyText().toLowerCase();
 
         assertThat(body)
                 .as("Authentication error must not disclose which credential is incorrect")
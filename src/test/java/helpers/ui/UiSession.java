@@ -0,0 +1,103 @@
+package helpers.ui;
+
+import driver.AuthStateCache;
+import driver.DriverManager;
+import helpers.api.ApiStateSetup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Establishes authenticated sessions for scenarios that only need to start signed in.
+ *
+ * <p>This class must NOT contain assertions.</p>
+ */
+public final class UiSession {
+
+    private static final Logger log = LoggerFactory.getLogger(UiSession.class);
+
+    private UiSession() {
+        // Utility class
+    }
+
+    /**
+     * Signs in, reusing a cached authenticated storage state when one is available.
+     *
+     * <p>When nothing is cached or the cached session is no longer accepted, signs in with a
+     * single form post ({@code stateSetup=api}) or, failing that, through the Sign in form,
+     * and caches the resulting storage state for later scenarios.</p>
+     *
+     * @param username username
+     * @param password password
+     */
+    public static void signIn(String username, String password) {
+        if (signInFromCachedState(username, password)) {
+            return;
+        }
+
+        if (signInThroughApi(username, password)) {
+            return;
+        }
+
+        UiActions.goToPath("/sign-in");
+        UiActions.fill(UiLocators.username(), username);
+        UiActions.fill(UiLocators.password(), password);
+        UiActions.clickButton("Sign in");
+        UiWaits.waitForDomContentLoaded();
+
+        if (isSignedIn()) {
+            AuthStateCache.put(username, password, DriverManager.context().storageState());
+        } else {
+            log.warn("AUTH sign in for user '{}' did not reach /signed-in; state not cached", username);
+        }
+    }
+
+    /**
+     * Seeds a new context from the cached storage state and checks the app still accepts it.
+     *
+     * @param username username
+     * @param password password
+     * @return {@code boolean} true if the scenario is now signed in on the Signed in page
+     */
+    private static boolean signInFromCachedState(String username, String password) {
+        String storageState = AuthStateCache.get(username, password);
+        if (storageState == null) {
+            return false;
+        }
+
+        DriverManager.replaceContext(DriverManager.newContext(storageState));
+        UiActions.goToPath("/signed-in");
+
+        if (isSignedIn()) {
+            log.info("AUTH reused cached state for user '{}'", username);
+            return true;
+        }
+
+        AuthStateCache.invalidate(username, password);
+        return false;
+    }
+
+    /**
+     * Signs in with a direct form post sharing cookies with the page, then opens the Signed in page.
+     *
+     * @param username username
+     * @param password password
+     * @return {@code boolean} true if the scenario is now signed in on the Signed in page
+     */
+    private static boolean signInThroughApi(String username, String password) {
+        if (!ApiStateSetup.isEnabled() || !ApiStateSetup.signIn(username, password)) {
+            return false;
+        }
+
+        UiActions.goToPath("/signed-in");
+        if (!isSignedIn()) {
+            return false;
+        }
+
+        AuthStateCache.put(username, password, DriverManager.context().storageState());
+        return true;
+    }
+
+    private static boolean isSignedIn() {
+        return UiActions.page().url().endsWith("/signed-in");
+    }
+}
@@ -2,9 +2,15 @@ package helpers.ui;
 
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
+import com.microsoft.playwright.assertions.PageAssertions;
+import com.microsoft.playwright.assertions.PlaywrightAssertions;
 import com.microsoft.playwright.options.LoadState;
+import com.microsoft.playwright.options.WaitUntilState;
+import config.ConfigReader;
 import driver.DriverManager;
 
+import java.net.URI;
+
 /**
  * Centralised explicit waits for UI stability.
  */
@@ -44,25 +50,39 @@ public final class UiWaits {
     /**
      * Waits until the current URL path ends with the given suffix.
      *
+     * <p>Driven by navigation events: returns at once if the URL already matches, otherwise
+     * when a main-frame navigation to a matching URL commits.</p>
+     *
      * @param suffix {@link String} URL suffix (e.g. "/sign-in")
      */
     public static void waitForUrlEndsWith(String suffix) {
-        page().waitForFunction(
-                "suffix => window.location.pathname.endsWith(suffix)",
-                suffix
+        page().waitForURL(
+                url -> pathOf(url).endsWith(suffix),
+                new Page.WaitForURLOptions().setWaitUntil(WaitUntilState.COMMIT)
         );
     }
 
-
     /**
      * Waits until page title matches expected value.
      *
+     * <p>Waits for the document to load, then uses Playwright's web-first title assertion,
+     * which returns as soon as the title matches. The assertion waits up to {@code timeoutMs},
+     * like every other wait, instead of Playwright's 5 second assertion default.</p>
+     *
      * @param expectedTitle expected title
      */
     public static void waitForTitle(String expectedTitle) {
-        page().waitForFunction(
-                "expected => document.title === expected",
-                expectedTitle
-        );
+        page().waitForLoadState(LoadState.DOMCONTENTLOADED);
+        PlaywrightAssertions.assertThat(page()).hasTitle(expectedTitle,
+                new PageAssertions.HasTitleOptions().setTimeout(ConfigReader.getInt("timeoutMs")));
+    }
+
+    private static String pathOf(String url) {
+        try {
+            String path = URI.create(url).getPath();
+            return path == null ? "" : path;
+        } catch (IllegalArgumentException e) {
+            return url;
+        }
     }
 }
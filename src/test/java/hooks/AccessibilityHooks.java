@@ -0,0 +1,51 @@
+package hooks;
+
+import helpers.accessibility.AccessibilityScanPipeline;
+import io.cucumber.java.After;
+import io.cucumber.java.Before;
+import io.cucumber.java.Scenario;
+
+import java.util.List;
+
+/**
+ * Cucumber hooks that attribute background accessibility scan results to scenarios.
+ *
+ * <p>Only active when {@code accessibility.async.enabled=true}. Runs before {@link UiHooks}
+ * cleanup, so a failing scenario still gets its screenshot and trace.</p>
+ */
+public class AccessibilityHooks {
+
+    /**
+     * Labels snapshots submitted by this scenario.
+     *
+     * @param scenario {@link Scenario} the executing scenario
+     */
+    @Before(order = 1)
+    public void beforeScenario(Scenario scenario) {
+        if (AccessibilityScanPipeline.isEnabled()) {
+            AccessibilityScanPipeline.beginScenario(label(scenario));
+        }
+    }
+
+    /**
+     * Fails the scenario if any of its finished background scans found violations.
+     *
+     * @param scenario {@link Scenario} the executed scenario
+     * @throws AssertionError listing the violations found
+     */
+    @After(order = 100)
+    public void afterScenario(Scenario scenario) {
+        if (!AccessibilityScanPipeline.isEnabled()) {
+            return;
+        }
+
+        List<String> failures = AccessibilityScanPipeline.takeCompletedFailures(label(scenario));
+        if (!failures.isEmpty()) {
+            throw new AssertionError(String.join(System.lineSeparator(), failures));
+        }
+    }
+
+    private static String label(Scenario scenario) {
+        return scenario.getName() + " (" + scenario.getUri() + ":" + scenario.getLine() + ")";
+    }
+}
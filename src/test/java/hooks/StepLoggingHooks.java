@@ -1,5 +1,6 @@
 package hooks;
 
+import helpers.ui.PageTextSnapshot;
 import io.cucumber.java.AfterStep;
 import io.cucumber.java.BeforeStep;
 import io.cucumber.java.Scenario;
@@ -15,6 +16,8 @@ public class StepLoggingHooks {
 
     private static final Logger log = LoggerFactory.getLogger(StepLoggingHooks.class);
 
+    private static final ThreadLocal<Long> TL_STEP_START = new ThreadLocal<>();
+
     /**
      * Logs the step text before the step executes.
      *
@@ -22,18 +25,26 @@ public class StepLoggingHooks {
      */
     @BeforeStep(order = 0)
     public void beforeStep(Scenario scenario) {
+        TL_STEP_START.set(System.nanoTime());
+        PageTextSnapshot.takeStepStats();
         log.info("STEP START: {}", scenario.getName());
         // Note: Cucumber's Scenario API does not expose the current step text directly.
         // We'll log the step text via a plugin later if you want exact step text in logs.
     }
 
     /**
-     * Logs after each step completes.
+     * Logs after each step completes, with its duration and how many body text reads it served
+     * from {@link PageTextSnapshot} (and the characters that did not need transferring).
      *
      * @param scenario {@link Scenario} the executing scenario
      */
     @AfterStep(order = 0)
     public void afterStep(Scenario scenario) {
-        log.info("STEP END: {} (status={})", scenario.getName(), scenario.getStatus());
+        Long start = TL_STEP_START.get();
+        long ms = start == null ? 0 : (System.nanoTime() - start) / 1_000_000;
+        PageTextSnapshot.StepStats text = PageTextSnapshot.takeStepStats();
+
+        log.info("STEP END: {} (status={}, ms={}, textCacheHits={}, textCharsSaved={})",
+                scenario.getName(), scenario.getStatus(), ms, text.hits(), text.charsSaved());
     }
 }
@@ -0,0 +1,56 @@
+package hooks;
+
+import driver.BrowserPool;
+import helpers.accessibility.AccessibilityChecks;
+import helpers.accessibility.AccessibilityScanPipeline;
+import helpers.ui.PageTextSnapshot;
+import io.cucumber.java.AfterAll;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import scheduling.WorkQueueWorker;
+
+import java.util.List;
+
+/**
+ * Cucumber suite-level hooks.
+ *
+ * <p>Releases resources that live for the whole run rather than for a single scenario.</p>
+ */
+public class SuiteHooks {
+
+    private static final Logger log = LoggerFactory.getLogger(SuiteHooks.class);
+
+    /**
+     * Shuts down pooled browsers once every scenario has finished and logs run-wide
+     * accessibility and page text snapshot statistics.
+     *
+     * <p>Background accessibility scans still running are awaited first; any violations they
+     * found fail the run, labelled with the scenario that took the snapshot.</p>
+     *
+     * <p>Under the work queue each scenario is its own Cucumber run, so only the background
+     * scans are awaited here; the worker calls {@link #finishRun()} when the queue is drained.</p>
+     */
+    @AfterAll
+    public static void afterAll() {
+        List<String> asyncFailures = AccessibilityScanPipeline.awaitRemaining();
+
+        if (!WorkQueueWorker.isActive()) {
+            finishRun();
+        }
+
+        if (!asyncFailures.isEmpty()) {
+            throw new AssertionError("Accessibility violations found by background scans:"
+                    + System.lineSeparator() + String.join(System.lineSeparator(), asyncFailures));
+        }
+    }
+
+    /**
+     * Logs the run-wide accessibility and page text snapshot statistics and shuts down pooled
+     * browsers.
+     */
+    public static void finishRun() {
+        AccessibilityChecks.logSummary();
+        log.info("TEXT page text snapshots: {}", PageTextSnapshot.summary());
+        BrowserPool.shutdown();
+    }
+}
@@ -1,18 +1,24 @@
 package hooks;
 
 import com.microsoft.playwright.Browser;
-import com.microsoft.playwright.BrowserContext;
-import com.microsoft.playwright.BrowserType;
 import com.microsoft.playwright.Page;
 import com.microsoft.playwright.Playwright;
 import com.microsoft.playwright.Tracing;
 import config.ConfigReader;
+import driver.BrowserFactory;
+import driver.BrowserPool;
+import driver.BrowserSlot;
+import driver.ContextFactory;
 import driver.DriverManager;
+import driver.PreparedContext;
+import helpers.accessibility.AccessibilityChecks;
 import io.cucumber.java.After;
 import io.cucumber.java.Before;
 import io.cucumber.java.Scenario;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import scheduling.DurationHistory;
+import scheduling.ScenarioKeys;
 
 import java.nio.file.Path;
 
@@ -20,7 +26,9 @@ import java.nio.file.Path;
  * Cucumber UI hooks responsible for Playwright lifecycle per scenario.
  *
  * <p>Creates a new browser context and page before each scenario, and closes all
- * resources after the scenario. Captures a screenshot and a Playwright trace on failure
+ * resources after the scenario. In pooled mode ({@code browserPool.enabled=true}) the
+ * scenario leases a long-lived Playwright worker from {@link BrowserPool}, whose driver and
+ * browser stay alive for the next scenario that leases it. Captures a screenshot and a Playwright trace on failure
  * (when enabled via configuration).</p>
  */
 public class UiHooks {
@@ -40,26 +48,28 @@ public class UiHooks {
         boolean headless = ConfigReader.getBool("headless");
         int timeoutMs = ConfigReader.getInt("timeoutMs");
         int slowMoMs = ConfigReader.getInt("slowMoMs");
+        boolean pooled = BrowserPool.isEnabled();
 
-        log.info("START Scenario: {} (browser={}, headless={}, timeoutMs={}, slowMoMs={})",
-                scenario.getName(), browserName, headless, timeoutMs, slowMoMs);
+        log.info("START Scenario: {} (browser={}, headless={}, timeoutMs={}, slowMoMs={}, pooled={})",
+                scenario.getName(), browserName, headless, timeoutMs, slowMoMs, pooled);
 
-        Playwright playwright = Playwright.create();
+        AccessibilityChecks.registerInitScripts();
 
-        BrowserType.LaunchOptions launchOptions = new BrowserType.LaunchOptions()
-                .setHeadless(headless)
-                .setSlowMo(slowMoMs);
+        Playwright playwright;
+        Browser browser;
 
-        Browser browser = createBrowser(playwright, browserName, launchOptions);
-
-        BrowserContext context = browser.newContext(new Browser.NewContextOptions());
-        context.setDefaultTimeout(timeoutMs);
-
-        Page page = context.newPage();
+        if (pooled) {
+            BrowserSlot slot = BrowserPool.acquire();
+            playwright = slot.playwright();
+            browser = slot.browser();
+        } else {
+            playwright = Playwright.create();
+            browser = BrowserFactory.launch(playwright);
+        }
 
-        DriverManager.set(playwright, browser, context, page);
+        PreparedContext prepared = pooled ? BrowserPool.newContext() : ContextFactory.create(browser);
 
-        startTracingIfEnabled(context);
+        DriverManager.set(playwright, browser, prepared.context(), prepared.page());
     }
 
     /**
@@ -80,48 +90,10 @@ public class UiHooks {
             }
         } finally {
             DriverManager.cleanup();
+            BrowserPool.releaseWorker(expectedDurationMs(scenario));
         }
     }
 
-    /**
-     * Creates a Playwright {@link Browser} instance for the requested browser name.
-     *
-     * @param playwright {@link Playwright} the Playwright instance
-     * @param browserName {@link String} the browser name: chromium | firefox | webkit
-     * @param launchOptions {@link BrowserType.LaunchOptions} the browser launch options
-     * @return {@link Browser} the created browser
-     */
-    private Browser createBrowser(Playwright playwright,
-                                  String browserName,
-                                  BrowserType.LaunchOptions launchOptions) {
-
-        String name = (browserName == null) ? "chromium" : browserName.toLowerCase();
-
-        return switch (name) {
-            case "firefox" -> playwright.firefox().launch(launchOptions);
-            case "webkit" -> playwright.webkit().launch(launchOptions);
-            default -> playwright.chromium().launch(launchOptions);
-        };
-    }
-
-    /**
-     * Starts Playwright tracing for the given {@link BrowserContext} if enabled by configuration.
-     *
-     * @param context {@link BrowserContext} the browser context to start tracing for
-     */
-    private void startTracingIfEnabled(BrowserContext context) {
-        if (!ConfigReader.getBool("traceOnFailure")) {
-            return;
-        }
-
-        context.tracing().start(new Tracing.StartOptions()
-                .setScreenshots(true)
-                .setSnapshots(true)
-                .setSources(true));
-
-        log.info("TRACE started");
-    }
-
     /**
      * Saves the trace zip file if tracing is enabled.
      *
@@ -189,6 +161,20 @@ public class UiHooks {
         return path;
     }
 
+    /**
+     * Gets the scenario's recorded duration, which the pool's concurrency governor compares
+     * with this run's duration.
+     *
+     * @param scenario {@link Scenario} the executed scenario
+     * @return {@code long} the recorded duration in milliseconds, or {@code 0} if not pooled or never run
+     */
+    private long expectedDurationMs(Scenario scenario) {
+        if (!BrowserPool.isEnabled()) {
+            return 0;
+        }
+        return History.SNAPSHOT.durationMs(ScenarioKeys.of(scenario)).orElse(0);
+    }
+
     /**
      * Determines whether a scenario should be treated as a failure for artefact capture.
      *
@@ -205,4 +191,11 @@ public class UiHooks {
                 || "PENDING".equalsIgnoreCase(status)
                 || "AMBIGUOUS".equalsIgnoreCase(status);
     }
+
+    /**
+     * Scenario durations recorded by previous runs, loaded once on first use.
+     */
+    private static final class History {
+        static final DurationHistory SNAPSHOT = DurationHistory.load();
+    }
 }
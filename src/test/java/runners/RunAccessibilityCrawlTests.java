@@ -0,0 +1,30 @@
+package runners;
+
+import helpers.accessibility.AccessibilityCrawler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Site-wide accessibility crawl: scans every route reachable from {@code baseUrl}.
+ *
+ * <pre>
+ * mvn test -Dtest=RunAccessibilityCrawlTests -Dcrawl.enabled=true
+ * </pre>
+ * <p>Per-page outcomes are streamed to {@code crawl.reportFile}; the test fails if any page
+ * breaches the accessibility policy.</p>
+ */
+@EnabledIfSystemProperty(named = "crawl.enabled", matches = "true")
+public class RunAccessibilityCrawlTests {
+
+    @Test
+    void crawledPagesHaveNoAccessibilityViolations() {
+        List<String> failures = AccessibilityCrawler.run();
+
+        assertTrue(failures.isEmpty(),
+                "Accessibility violations on " + failures.size() + " page(s):\n" + String.join("\n", failures));
+    }
+}
@@ -20,7 +20,9 @@ import static io.cucumber.junit.platform.engine.Constants.*;
         value =
                 "pretty," +
                         "summary," +
-                        "html:target/accessibility-report.html"
+                        "html:target/accessibility-report.html," +
+                        "scheduling.DurationHistoryPlugin," +
+                        "scheduling.ShardReportPlugin"
 )
 
 public class RunAccessibilityTests {
@@ -16,10 +16,12 @@ import static io.cucumber.junit.platform.engine.Constants.*;
                 "pretty," +
                         "summary," +
                         "html:target/cucumber-report.html," +
-                        "json:target/cucumber-report.json"
+                        "json:target/cucumber-report.json," +
+                        "scheduling.DurationHistoryPlugin," +
+                        "scheduling.ShardReportPlugin"
 )
 
-// Parallel support
+// Parallel support (strategy "custom" + scheduling.AdaptiveParallelismStrategy sizes workers from the host)
 @ConfigurationParameter(key = PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, value = "false")
 @ConfigurationParameter(key = PARALLEL_CONFIG_STRATEGY_PROPERTY_NAME, value = "fixed")
 @ConfigurationParameter(key = PARALLEL_CONFIG_FIXED_PARALLELISM_PROPERTY_NAME, value = "4")
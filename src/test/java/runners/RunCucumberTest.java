@@ -29,10 +29,14 @@ import static io.cucumber.junit.platform.engine.Constants.*;
                 "pretty," +
                         "summary," +
                         "html:target/cucumber-report.html," +
-                        "json:target/cucumber-report.json"
+                        "json:target/cucumber-report.json," +
+                        "scheduling.DurationHistoryPlugin," +
+                        "scheduling.ShardReportPlugin"
 )
 
 // ---------------------- PARALLEL EXECUTION -----------------
+// To size workers from the host instead, use strategy "custom" with
+// PARALLEL_CONFIG_CUSTOM_CLASS_PROPERTY_NAME = "scheduling.AdaptiveParallelismStrategy"
 @ConfigurationParameter(
         key = PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME,
         value = "false"
@@ -17,7 +17,7 @@ import static io.cucumber.junit.platform.engine.Constants.*;
 
 @ConfigurationParameter(
         key = PLUGIN_PROPERTY_NAME,
-        value = "pretty,summary"
+        value = "pretty,summary,scheduling.DurationHistoryPlugin,scheduling.ShardReportPlugin"
 )
 
 @ConfigurationParameter(key = PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, value = "true")
@@ -0,0 +1,36 @@
+package runners;
+
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import scheduling.WorkQueueWorker;
+
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Work-stealing runner: pulls scenarios one at a time from a shared queue.
+ *
+ * <p>Start any number of JVMs, on this machine or others pointing {@code workQueue.host} at the
+ * first one; the first to start hosts the queue:</p>
+ * <pre>
+ * mvn test -Dtest=RunWorkQueueTests -DworkQueue.enabled=true
+ * </pre>
+ * <p>Each pulled scenario is reported as its own dynamic test.</p>
+ */
+@EnabledIfSystemProperty(named = "workQueue.enabled", matches = "true")
+public class RunWorkQueueTests {
+
+    @TestFactory
+    Stream<DynamicTest> scenariosFromQueue() {
+        WorkQueueWorker worker = WorkQueueWorker.connect();
+
+        return Stream.generate(worker::next)
+                .takeWhile(Objects::nonNull)
+                .map(key -> DynamicTest.dynamicTest(key,
+                        () -> assertTrue(worker.run(key), "Scenario failed: " + key)))
+                .onClose(worker::close);
+    }
+}
@@ -0,0 +1,104 @@
+package scheduling;
+
+import config.ConfigReader;
+import driver.ConcurrencyGovernor;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfiguration;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfigurationStrategy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+
+/**
+ * Cucumber parallel-config strategy that sizes the worker count from the host.
+ *
+ * <p>Enabled with {@code cucumber.execution.parallel.config.strategy=custom} and
+ * {@code cucumber.execution.parallel.config.custom.class=scheduling.AdaptiveParallelismStrategy}.
+ * At startup it measures available cores, available memory and the footprint of one launched
+ * browser, then picks the largest worker count that fits both CPU and memory (capped by
+ * {@code parallel.maxWorkers}). The same number seeds {@link ConcurrencyGovernor}, which lowers
+ * concurrency at runtime if the host starts swapping or scenario latency spikes.</p>
+ */
+public class AdaptiveParallelismStrategy implements ParallelExecutionConfigurationStrategy {
+
+    private static final Logger log = LoggerFactory.getLogger(AdaptiveParallelismStrategy.class);
+
+    /** Fraction of available memory that browsers may use; the rest is headroom for the JVM and OS. */
+    private static final double MEMORY_BUDGET = 0.8;
+
+    @Override
+    public ParallelExecutionConfiguration createConfiguration(ConfigurationParameters configurationParameters) {
+        String measure = ConfigReader.get("parallel.measureBrowser");
+        HostCapacity capacity = HostCapacity.measure(measure == null || Boolean.parseBoolean(measure));
+
+        int workers = chooseWorkers(capacity);
+        ConcurrencyGovernor.start(workers);
+
+        log.info("PARALLEL cores={}, availableMb={}, browserMb={} -> workers={}",
+                capacity.cores(),
+                capacity.availableMemoryBytes() / (1024 * 1024),
+                capacity.browserFootprintBytes() / (1024 * 1024),
+                workers);
+
+        return new Configuration(workers);
+    }
+
+    /**
+     * Picks the number of workers that fits both CPU and memory.
+     *
+     * @param capacity {@link HostCapacity} the measured capacity
+     * @return {@code int} the number of workers (at least one)
+     */
+    static int chooseWorkers(HostCapacity capacity) {
+        int byCpu = Math.max(1, capacity.cores());
+        long byMemory = (long) (capacity.availableMemoryBytes() * MEMORY_BUDGET)
+                / Math.max(1, capacity.browserFootprintBytes());
+
+        int workers = (int) Math.max(1, Math.min(byCpu, byMemory));
+
+        String max = ConfigReader.get("parallel.maxWorkers");
+        if (max != null && !max.isBlank()) {
+            workers = Math.min(workers, Math.max(1, Integer.parseInt(max.trim())));
+        }
+        return workers;
+    }
+
+    /**
+     * Fixed-size fork-join configuration; saturating instead of adding compensation threads
+     * keeps the number of concurrently running scenarios at the chosen worker count.
+     */
+    private record Configuration(int parallelism) implements ParallelExecutionConfiguration {
+
+        @Override
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        @Override
+        public int getMinimumRunnable() {
+            return parallelism;
+        }
+
+        @Override
+        public int getMaxPoolSize() {
+            return parallelism + 256;
+        }
+
+        @Override
+        public int getCorePoolSize() {
+            return parallelism;
+        }
+
+        @Override
+        public int getKeepAliveSeconds() {
+            return 30;
+        }
+
+        @Override
+        public Predicate<? super ForkJoinPool> getSaturatePredicate() {
+            return pool -> true;
+        }
+    }
+}
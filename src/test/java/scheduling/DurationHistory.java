@@ -0,0 +1,136 @@
+package scheduling;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import config.ConfigReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+
+/**
+ * Per-scenario duration and outcome history kept between runs
+ * ({@code scheduling.historyFile}, default {@code test-results/history/scenario-history.json}).
+ */
+public final class DurationHistory {
+
+    private static final Logger log = LoggerFactory.getLogger(DurationHistory.class);
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final Map<String, Entry> entries;
+
+    private DurationHistory(Map<String, Entry> entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Loads the history file, or returns an empty history if it does not exist or cannot be read.
+     *
+     * @return {@link DurationHistory} the history
+     */
+    public static DurationHistory load() {
+        Path file = file();
+        if (!Files.exists(file)) {
+            return new DurationHistory(new TreeMap<>());
+        }
+
+        try {
+            return read(file);
+        } catch (Exception e) {
+            log.warn("HISTORY could not read {}: {}", file, e.getMessage());
+            return new DurationHistory(new TreeMap<>());
+        }
+    }
+
+    /**
+     * Reads a history file, failing if it cannot be read (e.g. a snapshot every node must share).
+     *
+     * @param file {@link Path} the history file
+     * @return {@link DurationHistory} the history
+     * @throws IOException if the file is missing or not a valid history
+     */
+    static DurationHistory read(Path file) throws IOException {
+        return new DurationHistory(MAPPER.readValue(file.toFile(), new TypeReference<TreeMap<String, Entry>>() {}));
+    }
+
+    /**
+     * Gets the predicted duration of a scenario.
+     *
+     * @param key {@link String} the scenario key
+     * @return {@link OptionalLong} the predicted duration in milliseconds, empty if never run
+     */
+    public OptionalLong durationMs(String key) {
+        Entry entry = entries.get(key);
+        return (entry == null) ? OptionalLong.empty() : OptionalLong.of(entry.durationMs());
+    }
+
+    /**
+     * Indicates whether the scenario failed the last time it ran.
+     *
+     * @param key {@link String} the scenario key
+     * @return {@code boolean} true if the last recorded outcome was a failure
+     */
+    public boolean failedLastRun(String key) {
+        Entry entry = entries.get(key);
+        return entry != null && entry.failed();
+    }
+
+    /**
+     * Gets the mean recorded duration, used as the prediction for scenarios without history.
+     *
+     * @return {@code long} the mean duration in milliseconds, or {@code 0} if the history is empty
+     */
+    public long meanDurationMs() {
+        return Math.round(entries.values().stream().mapToLong(Entry::durationMs).average().orElse(0));
+    }
+
+    /**
+     * Records a run of a scenario, smoothing the duration with the previous prediction.
+     *
+     * @param key {@link String} the scenario key
+     * @param durationMs {@code long} the measured duration in milliseconds
+     * @param failed {@code boolean} whether the scenario failed
+     */
+    public void record(String key, long durationMs, boolean failed) {
+        Entry previous = entries.get(key);
+        long smoothed = (previous == null) ? durationMs : (previous.durationMs() + durationMs) / 2;
+        entries.put(key, new Entry(smoothed, failed, System.currentTimeMillis()));
+    }
+
+    /**
+     * Writes the history file.
+     */
+    public void save() {
+        Path file = file();
+        try {
+            Files.createDirectories(file.getParent());
+            MAPPER.writeValue(file.toFile(), entries);
+        } catch (Exception e) {
+            log.warn("HISTORY could not write {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static Path file() {
+        String configured = ConfigReader.get("scheduling.historyFile");
+        return Path.of((configured == null || configured.isBlank())
+                ? "test-results/history/scenario-history.json"
+                : configured);
+    }
+
+    /**
+     * One scenario's history.
+     *
+     * @param durationMs smoothed duration in milliseconds
+     * @param failed whether the last run failed
+     * @param lastRunEpochMs when the scenario last ran
+     */
+    public record Entry(long durationMs, boolean failed, long lastRunEpochMs) {
+    }
+}
@@ -0,0 +1,111 @@
+package scheduling;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestRunFinished;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cucumber plugin that records each scenario's duration and outcome into {@link DurationHistory}
+ * and reports predicted versus actual time per worker thread.
+ *
+ * <p>Registered in the runners' {@code cucumber.plugin} list as
+ * {@code scheduling.DurationHistoryPlugin}. The predictions in the report come from the history
+ * as it was before this run, i.e. the same numbers {@link ScenarioOrderingFilter} ordered by.
+ * The report is logged and written to {@code test-results/history/worker-report.txt}.</p>
+ */
+public class DurationHistoryPlugin implements ConcurrentEventListener {
+
+    private static final Logger log = LoggerFactory.getLogger(DurationHistoryPlugin.class);
+
+    private static final Path REPORT = Path.of("test-results", "history", "worker-report.txt");
+
+    private final DurationHistory previous = DurationHistory.load();
+    private final DurationHistory history = DurationHistory.load();
+    private final Map<UUID, String> workerByTestCase = new ConcurrentHashMap<>();
+    private final Map<String, WorkerTotals> totals = new ConcurrentHashMap<>();
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestCaseStarted.class, this::onTestCaseStarted);
+        publisher.registerHandlerFor(TestCaseFinished.class, this::onTestCaseFinished);
+        publisher.registerHandlerFor(TestRunFinished.class, event -> onTestRunFinished());
+    }
+
+    private void onTestCaseStarted(TestCaseStarted event) {
+        workerByTestCase.put(event.getTestCase().getId(), Thread.currentThread().getName());
+    }
+
+    private void onTestCaseFinished(TestCaseFinished event) {
+        String key = ScenarioKeys.of(event.getTestCase());
+        String worker = workerByTestCase.getOrDefault(event.getTestCase().getId(), "unknown");
+        Status status = event.getResult().getStatus();
+        long actualMs = event.getResult().getDuration().toMillis();
+
+        if (status == Status.SKIPPED) {
+            return;
+        }
+
+        long predictedMs = previous.durationMs(key).orElse(previous.meanDurationMs());
+
+        synchronized (history) {
+            history.record(key, actualMs, !status.isOk());
+        }
+        totals.computeIfAbsent(worker, w -> new WorkerTotals()).add(predictedMs, actualMs);
+    }
+
+    private void onTestRunFinished() {
+        synchronized (history) {
+            history.save();
+        }
+
+        StringBuilder report = new StringBuilder(
+                String.format("%-32s %9s %12s %12s %8s%n", "worker", "scenarios", "predictedMs", "actualMs", "error"));
+
+        new TreeMap<>(totals).forEach((worker, t) -> {
+            String line = String.format("%-32s %9d %12d %12d %7.0f%%",
+                    worker, t.scenarios, t.predictedMs, t.actualMs, t.errorPercent());
+            report.append(line).append(System.lineSeparator());
+            log.info("HISTORY {}", line);
+        });
+
+        try {
+            Files.createDirectories(REPORT.getParent());
+            Files.writeString(REPORT, report);
+        } catch (IOException e) {
+            log.warn("HISTORY could not write {}: {}", REPORT, e.getMessage());
+        }
+    }
+
+    /**
+     * Running totals for one worker thread.
+     */
+    private static final class WorkerTotals {
+
+        private int scenarios;
+        private long predictedMs;
+        private long actualMs;
+
+        synchronized void add(long predicted, long actual) {
+            scenarios++;
+            predictedMs += predicted;
+            actualMs += actual;
+        }
+
+        synchronized double errorPercent() {
+            return (actualMs == 0) ? 0 : 100.0 * (predictedMs - actualMs) / actualMs;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package scheduling;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Playwright;
+import driver.BrowserFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Snapshot of the resources available to run browsers on this host.
+ *
+ * @param cores available processors
+ * @param availableMemoryBytes memory available to new processes
+ * @param browserFootprintBytes resident memory of one Playwright driver plus browser with an open page
+ */
+public record HostCapacity(int cores, long availableMemoryBytes, long browserFootprintBytes) {
+
+    private static final Logger log = LoggerFactory.getLogger(HostCapacity.class);
+
+    /** Used when the browser's footprint cannot be measured (non-Linux hosts). */
+    static final long DEFAULT_BROWSER_FOOTPRINT_BYTES = 400L * 1024 * 1024;
+
+    /**
+     * Measures cores, available memory and the footprint of one launched browser.
+     *
+     * @param measureBrowser {@code boolean} whether to launch a browser to measure its footprint
+     * @return {@link HostCapacity} the measured capacity
+     */
+    public static HostCapacity measure(boolean measureBrowser) {
+        int cores = Runtime.getRuntime().availableProcessors();
+        long available = availableMemory();
+        long footprint = measureBrowser ? measureBrowserFootprint() : DEFAULT_BROWSER_FOOTPRINT_BYTES;
+        return new HostCapacity(cores, available, footprint);
+    }
+
+    /**
+     * Reads memory available to new processes: {@code MemAvailable} on Linux (includes
+     * reclaimable cache), otherwise the JVM's free physical memory.
+     *
+     * @return {@code long} available bytes
+     */
+    private static long availableMemory() {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc/meminfo"))) {
+                if (line.startsWith("MemAvailable:")) {
+                    return parseKb(line) * 1024;
+                }
+            }
+        } catch (Exception ignored) {
+            // Not Linux; fall back to the JVM's view
+        }
+
+        if (ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.OperatingSystemMXBean os) {
+            return os.getFreeMemorySize();
+        }
+        return Runtime.getRuntime().maxMemory();
+    }
+
+    /**
+     * Launches one browser with a page and sums the resident memory of the processes it added.
+     *
+     * @return {@code long} footprint in bytes, or the default if it cannot be measured
+     */
+    private static long measureBrowserFootprint() {
+        Set<Long> before = descendantPids();
+
+        try (Playwright playwright = Playwright.create()) {
+            Browser browser = BrowserFactory.launch(playwright);
+            BrowserContext context = browser.newContext();
+            context.newPage().navigate("about:blank");
+
+            long rss = ProcessHandle.current().descendants()
+                    .filter(p -> !before.contains(p.pid()))
+                    .mapToLong(p -> residentBytes(p.pid()))
+                    .sum();
+
+            browser.close();
+            return (rss > 0) ? rss : DEFAULT_BROWSER_FOOTPRINT_BYTES;
+
+        } catch (Exception e) {
+            log.warn("CAPACITY could not measure browser footprint: {}", e.getMessage());
+            return DEFAULT_BROWSER_FOOTPRINT_BYTES;
+        }
+    }
+
+    private static Set<Long> descendantPids() {
+        return ProcessHandle.current().descendants()
+                .map(ProcessHandle::pid)
+                .collect(Collectors.toSet());
+    }
+
+    private static long residentBytes(long pid) {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc", String.valueOf(pid), "status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return parseKb(line) * 1024;
+                }
+            }
+        } catch (Exception ignored) {
+            // Process exited or not Linux
+        }
+        return 0;
+    }
+
+    private static long parseKb(String line) {
+        return Long.parseLong(line.replaceAll("[^0-9]", ""));
+    }
+}
@@ -0,0 +1,110 @@
+package scheduling;
+
+import io.cucumber.java.Scenario;
+import io.cucumber.plugin.event.TestCase;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.ClasspathResourceSource;
+import org.junit.platform.engine.support.descriptor.FileSource;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+import java.net.URI;
+import java.util.Optional;
+
+/**
+ * Builds stable scenario identifiers ({@code <feature path>:<line>}) shared by the discovery
+ * tree and Cucumber's runtime events.
+ *
+ * <p>For scenario outlines the line is the example row, so each example has its own key.</p>
+ */
+public final class ScenarioKeys {
+
+    private ScenarioKeys() {
+        // Utility class
+    }
+
+    /**
+     * Builds the key of an executed test case.
+     *
+     * @param testCase {@link TestCase} the test case
+     * @return {@link String} the scenario key
+     */
+    public static String of(TestCase testCase) {
+        return featurePath(testCase.getUri()) + ":" + testCase.getLocation().getLine();
+    }
+
+    /**
+     * Builds the key of a running scenario, as seen by hooks.
+     *
+     * @param scenario {@link Scenario} the scenario
+     * @return {@link String} the scenario key
+     */
+    public static String of(Scenario scenario) {
+        return featurePath(scenario.getUri()) + ":" + scenario.getLine();
+    }
+
+    /**
+     * Builds the key of a discovered scenario (pickle) descriptor.
+     *
+     * @param descriptor {@link TestDescriptor} the descriptor
+     * @return {@link Optional} the scenario key, empty for containers or unknown sources
+     */
+    public static Optional<String> of(TestDescriptor descriptor) {
+        if (!descriptor.isTest()) {
+            return Optional.empty();
+        }
+
+        return descriptor.getSource().flatMap(ScenarioKeys::fromSource);
+    }
+
+    /**
+     * Builds the key of a scenario in a discovered {@link TestPlan}.
+     *
+     * @param identifier {@link TestIdentifier} the test identifier
+     * @return {@link Optional} the scenario key, empty for containers or unknown sources
+     */
+    public static Optional<String> of(TestIdentifier identifier) {
+        if (!identifier.isTest()) {
+            return Optional.empty();
+        }
+
+        return identifier.getSource().flatMap(ScenarioKeys::fromSource);
+    }
+
+    /**
+     * Converts a key back into a feature argument for the Cucumber command line.
+     *
+     * @param key {@link String} the scenario key
+     * @return {@link String} e.g. {@code classpath:features/functional/login_successful.feature:12}
+     */
+    public static String toFeatureArgument(String key) {
+        return key.startsWith("file:") ? key : "classpath:" + key;
+    }
+
+    private static Optional<String> fromSource(TestSource source) {
+        if (source instanceof ClasspathResourceSource resource) {
+            return resource.getPosition()
+                    .map(position -> resource.getClasspathResourceName() + ":" + position.getLine());
+        }
+        if (source instanceof FileSource file) {
+            return file.getPosition()
+                    .map(position -> featurePath(file.getFile().toURI()) + ":" + position.getLine());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Extracts the feature path from a feature URI.
+     *
+     * @param uri {@link URI} e.g. {@code classpath:features/functional/login_successful.feature}
+     * @return {@link String} e.g. {@code features/functional/login_successful.feature}
+     */
+    public static String featurePath(URI uri) {
+        if ("classpath".equals(uri.getScheme())) {
+            String path = uri.getSchemeSpecificPart();
+            return path.startsWith("/") ? path.substring(1) : path;
+        }
+        return uri.toString();
+    }
+}
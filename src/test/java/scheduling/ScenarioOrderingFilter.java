@@ -0,0 +1,79 @@
+package scheduling;
+
+import config.ConfigReader;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Post-discovery filter that reorders (never removes) discovered scenarios using
+ * {@link DurationHistory}.
+ *
+ * <p>Registered through {@code META-INF/services/org.junit.platform.launcher.PostDiscoveryFilter}
+ * and active when {@code scheduling.order=history}. At every level of the tree (features,
+ * rules, outlines, scenarios) children that failed in the previous run go first, then the
+ * rest longest-first by predicted duration. Scenarios without history are predicted at the
+ * mean duration. Starting long work first keeps one slow feature from becoming the tail of
+ * a parallel run.</p>
+ */
+public class ScenarioOrderingFilter implements PostDiscoveryFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(ScenarioOrderingFilter.class);
+
+    private final boolean enabled = "history".equalsIgnoreCase(ConfigReader.get("scheduling.order"));
+    private final DurationHistory history = enabled ? DurationHistory.load() : null;
+    private final Map<TestDescriptor, Weight> weights = new IdentityHashMap<>();
+
+    @Override
+    public FilterResult apply(TestDescriptor descriptor) {
+        if (enabled && descriptor.isContainer() && descriptor.getChildren().size() > 1) {
+            descriptor.orderChildren(this::order);
+        }
+        return FilterResult.included("ordered by duration history");
+    }
+
+    private List<TestDescriptor> order(List<TestDescriptor> children) {
+        children.sort(Comparator
+                .comparing((TestDescriptor child) -> !weight(child).failed())
+                .thenComparing(child -> weight(child).predictedMs(), Comparator.reverseOrder()));
+
+        if (log.isDebugEnabled()) {
+            children.forEach(child -> log.debug("HISTORY order {} -> {}", child.getDisplayName(), weight(child)));
+        }
+        return children;
+    }
+
+    private Weight weight(TestDescriptor descriptor) {
+        Weight cached = weights.get(descriptor);
+        if (cached != null) {
+            return cached;
+        }
+
+        Weight weight = ScenarioKeys.of(descriptor)
+                .map(key -> new Weight(history.durationMs(key).orElse(history.meanDurationMs()),
+                        history.failedLastRun(key)))
+                .orElseGet(() -> descriptor.getChildren().stream()
+                        .map(this::weight)
+                        .reduce(new Weight(0, false), Weight::plus));
+
+        weights.put(descriptor, weight);
+        return weight;
+    }
+
+    /**
+     * Predicted duration of a subtree and whether any scenario in it failed last run.
+     */
+    private record Weight(long predictedMs, boolean failed) {
+
+        Weight plus(Weight other) {
+            return new Weight(predictedMs + other.predictedMs, failed || other.failed);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package scheduling;
+
+import config.ConfigReader;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * One shard of a run split across CI nodes, selected with {@code -Dshard=k/N} (1-based).
+ *
+ * @param index {@code int} this shard, from 1 to {@code total}
+ * @param total {@code int} the number of shards
+ */
+public record Shard(int index, int total) {
+
+    public Shard {
+        if (total < 1 || index < 1 || index > total) {
+            throw new IllegalArgumentException("Invalid shard " + index + "/" + total + " (expected k/N with 1 <= k <= N)");
+        }
+    }
+
+    /**
+     * Reads the {@code shard} configuration value.
+     *
+     * @return {@link Optional} the shard, empty when the run is not sharded
+     * @throws IllegalArgumentException if the value is not of the form {@code k/N}
+     */
+    public static Optional<Shard> fromConfig() {
+        String value = ConfigReader.get("shard");
+        if (value == null || value.isBlank()) {
+            return Optional.empty();
+        }
+
+        String[] parts = value.trim().split("/");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Invalid shard '" + value + "' (expected k/N, e.g. -Dshard=2/4)");
+        }
+
+        try {
+            return Optional.of(new Shard(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim())));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid shard '" + value + "' (expected k/N, e.g. -Dshard=2/4)", e);
+        }
+    }
+
+    /**
+     * Gets the directory this shard writes its reports to.
+     *
+     * @return {@link Path} e.g. {@code test-results/shards/shard-2-of-4}
+     */
+    public Path reportDir() {
+        return ShardReportMerger.SHARDS_DIR.resolve("shard-" + index + "-of-" + total);
+    }
+
+    @Override
+    public String toString() {
+        return index + "/" + total;
+    }
+}
@@ -0,0 +1,54 @@
+package scheduling;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Deterministic longest-processing-time assignment of scenarios to shards.
+ *
+ * <p>Scenarios are taken heaviest first (ties broken by key) and each goes to the currently
+ * lightest shard (ties broken by shard number). Given the same scenarios and weights every
+ * node computes the same assignment, so no coordination is needed.</p>
+ */
+final class ShardAssignment {
+
+    private ShardAssignment() {
+        // Utility class
+    }
+
+    /**
+     * Selects the scenarios that belong to a shard.
+     *
+     * @param weights {@link Map} scenario key to weight
+     * @param shard {@link Shard} the shard to select
+     * @return {@link Set} the keys assigned to the shard
+     */
+    static Set<String> select(Map<String, Long> weights, Shard shard) {
+        List<Map.Entry<String, Long>> ordered = new ArrayList<>(weights.entrySet());
+        ordered.sort(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()));
+
+        long[] load = new long[shard.total()];
+        Set<String> selected = new HashSet<>();
+
+        for (Map.Entry<String, Long> scenario : ordered) {
+            int lightest = 0;
+            for (int bin = 1; bin < load.length; bin++) {
+                if (load[bin] < load[lightest]) {
+                    lightest = bin;
+                }
+            }
+
+            load[lightest] += Math.max(1, scenario.getValue());
+            if (lightest == shard.index() - 1) {
+                selected.add(scenario.getKey());
+            }
+        }
+
+        return selected;
+    }
+}
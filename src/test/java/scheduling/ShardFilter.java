@@ -0,0 +1,147 @@
+package scheduling;
+
+import config.ConfigReader;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Post-discovery filter that keeps only this node's scenarios when {@code -Dshard=k/N} is set.
+ *
+ * <p>Registered through {@code META-INF/services/org.junit.platform.launcher.PostDiscoveryFilter}.
+ * Scenarios (not whole features) are balanced across shards by {@link ShardAssignment}, weighted
+ * by the {@link DurationHistory} snapshot in {@code shard.historyFile}. Scenarios without history
+ * are weighted by their step count, scaled by the snapshot's average time per step when there is
+ * one. Without a snapshot every scenario is weighted by its step count alone.</p>
+ *
+ * <p>Every node must compute the same weights and see the same tag filter for the shards to be
+ * disjoint. The node-local {@code scheduling.historyFile} is rewritten after every run, so it is
+ * never used here; the snapshot is a committed or CI-distributed copy passed by path. Each node
+ * logs the snapshot's SHA-256 digest and, when {@code shard.historyDigest} is set, fails if its
+ * copy differs.</p>
+ */
+public class ShardFilter implements PostDiscoveryFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardFilter.class);
+
+    /** Selected keys per Cucumber engine tree, shared by the suite's nested and outer discovery passes. */
+    private static final Map<UniqueId, Set<String>> SELECTED = new ConcurrentHashMap<>();
+
+    private final Optional<Shard> shard = Shard.fromConfig();
+
+    @Override
+    public FilterResult apply(TestDescriptor descriptor) {
+        if (shard.isEmpty()) {
+            return FilterResult.included("not sharded");
+        }
+
+        if (isCucumberEngine(descriptor)) {
+            SELECTED.computeIfAbsent(descriptor.getUniqueId(), id -> select(descriptor, shard.get()));
+            return FilterResult.included("shard " + shard.get());
+        }
+
+        Optional<String> key = ScenarioKeys.of(descriptor);
+        Optional<TestDescriptor> engine = cucumberEngineOf(descriptor);
+        if (key.isEmpty() || engine.isEmpty()) {
+            return FilterResult.included("shard " + shard.get());
+        }
+
+        Set<String> selected = SELECTED.computeIfAbsent(engine.get().getUniqueId(),
+                id -> select(engine.get(), shard.get()));
+
+        return selected.contains(key.get())
+                ? FilterResult.included("shard " + shard.get())
+                : FilterResult.excluded("assigned to another shard than " + shard.get());
+    }
+
+    private static Set<String> select(TestDescriptor engine, Shard shard) {
+        DurationHistory history = sharedHistory();
+        Map<String, Long> knownMs = new LinkedHashMap<>();
+        Map<String, Integer> steps = new LinkedHashMap<>();
+
+        for (TestDescriptor descriptor : engine.getDescendants()) {
+            ScenarioKeys.of(descriptor).ifPresent(key -> {
+                OptionalLong durationMs = (history == null) ? OptionalLong.empty() : history.durationMs(key);
+                if (durationMs.isPresent()) {
+                    knownMs.put(key, durationMs.getAsLong());
+                }
+                steps.put(key, StepCounts.of(key));
+            });
+        }
+
+        long knownSteps = knownMs.keySet().stream().mapToLong(steps::get).sum();
+        long totalKnownMs = knownMs.values().stream().mapToLong(Long::longValue).sum();
+        double msPerStep = (knownSteps == 0) ? 1 : (double) totalKnownMs / knownSteps;
+
+        Map<String, Long> weights = new LinkedHashMap<>();
+        steps.forEach((key, count) -> weights.put(key,
+                knownMs.getOrDefault(key, Math.round(count * msPerStep))));
+
+        Set<String> selected = ShardAssignment.select(weights, shard);
+        long selectedWeight = selected.stream().mapToLong(weights::get).sum();
+        long totalWeight = weights.values().stream().mapToLong(Long::longValue).sum();
+
+        log.info("SHARD {}: {} of {} scenarios (withHistory={}, weight={} of {})",
+                shard, selected.size(), weights.size(), knownMs.size(), selectedWeight, totalWeight);
+        return selected;
+    }
+
+    /**
+     * Loads the history snapshot shared by every node and checks its digest.
+     *
+     * @return {@link DurationHistory} the snapshot, or {@code null} to weight by step counts only
+     * @throws IllegalStateException if the snapshot cannot be read or its digest is not the expected one
+     */
+    private static DurationHistory sharedHistory() {
+        String configured = ConfigReader.get("shard.historyFile");
+        if (configured == null || configured.isBlank()) {
+            log.info("SHARD no shard.historyFile; weighting scenarios by step count");
+            return null;
+        }
+
+        Path file = Path.of(configured);
+        try {
+            String digest = HexFormat.of().formatHex(
+                    MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(file)));
+            String expected = ConfigReader.get("shard.historyDigest");
+            if (expected != null && !expected.isBlank() && !expected.trim().equalsIgnoreCase(digest)) {
+                throw new IllegalStateException("Shard history " + file + " has digest " + digest
+                        + " but shard.historyDigest is " + expected.trim() + "; nodes would compute different shards");
+            }
+
+            log.info("SHARD history {} sha256={}", file, digest);
+            return DurationHistory.read(file);
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Failed to read shard history " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static Optional<TestDescriptor> cucumberEngineOf(TestDescriptor descriptor) {
+        Optional<TestDescriptor> current = descriptor.getParent();
+        while (current.isPresent() && !isCucumberEngine(current.get())) {
+            current = current.get().getParent();
+        }
+        return current;
+    }
+
+    private static boolean isCucumberEngine(TestDescriptor descriptor) {
+        UniqueId.Segment last = descriptor.getUniqueId().getLastSegment();
+        return "engine".equals(last.getType()) && "cucumber".equals(last.getValue());
+    }
+}
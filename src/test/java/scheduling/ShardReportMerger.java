@@ -0,0 +1,164 @@
+package scheduling;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Merges the per-shard Cucumber JSON and JUnit XML reports written by {@link ShardReportPlugin}
+ * (and the per-scenario reports of work queue runs, see {@link WorkQueueCoordinator}).
+ *
+ * <p>Run after all shards have finished (with their {@code test-results/shards} directories
+ * collected on one machine):</p>
+ * <pre>
+ * mvn -Pmerge-shards exec:java
+ * </pre>
+ * <p>Writes {@code cucumber.json} and {@code cucumber.xml} to {@code test-results/shards/merged}.
+ * JSON features that were split across shards are joined back into one feature.</p>
+ */
+public final class ShardReportMerger {
+
+    static final Path SHARDS_DIR = Path.of("test-results", "shards");
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private ShardReportMerger() {
+        // Utility class
+    }
+
+    /**
+     * Merges all shard reports.
+     *
+     * @param args optional shards directory (default {@code test-results/shards})
+     *             and output directory (default {@code <shards directory>/merged})
+     * @throws Exception if a report cannot be read or written
+     */
+    public static void main(String[] args) throws Exception {
+        Path shardsDir = (args.length > 0) ? Path.of(args[0]) : SHARDS_DIR;
+        Path outputDir = (args.length > 1) ? Path.of(args[1]) : shardsDir.resolve("merged");
+
+        List<Path> shardDirs;
+        try (Stream<Path> dirs = Files.list(shardsDir)) {
+            shardDirs = dirs.filter(dir -> dir.getFileName().toString().startsWith("shard-")).sorted().toList();
+        }
+
+        merge(shardDirs, outputDir);
+
+        System.out.printf("Merged %d shard(s) into %s%n", shardDirs.size(), outputDir);
+    }
+
+    /**
+     * Merges the {@code cucumber.json} and {@code cucumber.xml} reports of several directories.
+     *
+     * @param reportDirs {@link List} directories each holding one run's reports
+     * @param outputDir {@link Path} directory to write the merged reports to
+     * @throws Exception if a report cannot be read or written
+     */
+    static void merge(List<Path> reportDirs, Path outputDir) throws Exception {
+        Files.createDirectories(outputDir);
+        mergeJson(reportDirs, outputDir.resolve("cucumber.json"));
+        mergeJUnit(reportDirs, outputDir.resolve("cucumber.xml"));
+    }
+
+    private static void mergeJson(List<Path> shardDirs, Path target) throws IOException {
+        Map<String, ObjectNode> features = new LinkedHashMap<>();
+
+        for (Path dir : shardDirs) {
+            Path file = dir.resolve("cucumber.json");
+            if (!Files.exists(file) || Files.size(file) == 0) {
+                continue;
+            }
+
+            for (JsonNode feature : MAPPER.readTree(file.toFile())) {
+                String uri = feature.path("uri").asText();
+                ObjectNode merged = features.get(uri);
+                if (merged == null) {
+                    features.put(uri, (ObjectNode) feature.deepCopy());
+                } else {
+                    ArrayNode elements = merged.withArray("elements");
+                    feature.path("elements").forEach(elements::add);
+                }
+            }
+        }
+
+        ArrayNode result = MAPPER.createArrayNode();
+        features.values().forEach(result::add);
+        MAPPER.writeValue(target.toFile(), result);
+    }
+
+    private static void mergeJUnit(List<Path> shardDirs, Path target) throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        Document merged = factory.newDocumentBuilder().newDocument();
+        Element suite = merged.createElement("testsuite");
+        suite.setAttribute("name", "Cucumber");
+        merged.appendChild(suite);
+
+        long tests = 0;
+        long skipped = 0;
+        long failures = 0;
+        long errors = 0;
+        double time = 0;
+
+        for (Path dir : shardDirs) {
+            Path file = dir.resolve("cucumber.xml");
+            if (!Files.exists(file) || Files.size(file) == 0) {
+                continue;
+            }
+
+            Element shardSuite = factory.newDocumentBuilder().parse(file.toFile()).getDocumentElement();
+            tests += longAttribute(shardSuite, "tests");
+            skipped += longAttribute(shardSuite, "skipped");
+            failures += longAttribute(shardSuite, "failures");
+            errors += longAttribute(shardSuite, "errors");
+            time += doubleAttribute(shardSuite, "time");
+
+            NodeList children = shardSuite.getChildNodes();
+            for (int i = 0; i < children.getLength(); i++) {
+                Node child = children.item(i);
+                if (child instanceof Element element && "testcase".equals(element.getTagName())) {
+                    suite.appendChild(merged.importNode(element, true));
+                }
+            }
+        }
+
+        suite.setAttribute("tests", String.valueOf(tests));
+        suite.setAttribute("skipped", String.valueOf(skipped));
+        suite.setAttribute("failures", String.valueOf(failures));
+        suite.setAttribute("errors", String.valueOf(errors));
+        suite.setAttribute("time", String.format(Locale.ROOT, "%.3f", time));
+
+        var transformer = TransformerFactory.newInstance().newTransformer();
+        transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+        transformer.transform(new DOMSource(merged), new StreamResult(target.toFile()));
+    }
+
+    private static long longAttribute(Element element, String name) {
+        String value = element.getAttribute(name);
+        return value.isBlank() ? 0 : Long.parseLong(value);
+    }
+
+    private static double doubleAttribute(Element element, String name) {
+        String value = element.getAttribute(name);
+        return value.isBlank() ? 0 : Double.parseDouble(value.replace(",", ""));
+    }
+}
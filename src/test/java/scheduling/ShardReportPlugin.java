@@ -0,0 +1,69 @@
+package scheduling;
+
+import io.cucumber.core.plugin.JUnitFormatter;
+import io.cucumber.core.plugin.JsonFormatter;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.TestRunFinished;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Cucumber plugin that writes this shard's JSON and JUnit XML reports under its own directory.
+ *
+ * <p>Registered in the runners' {@code cucumber.plugin} list as {@code scheduling.ShardReportPlugin}.
+ * Does nothing unless {@code -Dshard=k/N} is set; then it delegates to Cucumber's JSON and JUnit
+ * formatters writing {@code cucumber.json} and {@code cucumber.xml} under
+ * {@link Shard#reportDir()}, so shards never overwrite each other. {@link ShardReportMerger}
+ * combines the shard directories afterwards.</p>
+ */
+public class ShardReportPlugin implements ConcurrentEventListener {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardReportPlugin.class);
+
+    private final Optional<Shard> shard = Shard.fromConfig();
+    private final List<OutputStream> outputs = new ArrayList<>();
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        if (shard.isEmpty()) {
+            return;
+        }
+
+        Path dir = shard.get().reportDir();
+        try {
+            Files.createDirectories(dir);
+            new JsonFormatter(open(dir.resolve("cucumber.json"))).setEventPublisher(publisher);
+            new JUnitFormatter(open(dir.resolve("cucumber.xml"))).setEventPublisher(publisher);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot create shard report directory " + dir, e);
+        }
+
+        publisher.registerHandlerFor(TestRunFinished.class, event -> close());
+        log.info("SHARD {} reports -> {}", shard.get(), dir);
+    }
+
+    private OutputStream open(Path file) throws IOException {
+        OutputStream out = Files.newOutputStream(file);
+        outputs.add(out);
+        return out;
+    }
+
+    private void close() {
+        for (OutputStream out : outputs) {
+            try {
+                out.close();
+            } catch (IOException ignored) {
+                // Already closed by the formatter
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package scheduling;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Estimates how many steps a scenario runs, as a weight for scenarios without duration history.
+ *
+ * <p>Counts the steps of the scenario (or outline) containing the keyed line plus every
+ * {@code Background} step declared before it. This is a line-based estimate, not a full
+ * Gherkin parse, which is enough to balance shards on a first run.</p>
+ */
+final class StepCounts {
+
+    private static final Pattern STEP = Pattern.compile("^(Given|When|Then|And|But|\\*)\\s.*");
+    private static final Pattern SCENARIO = Pattern.compile("^(Scenario|Scenario Outline|Scenario Template|Example):.*");
+    private static final Pattern BLOCK_END = Pattern.compile("^(Examples|Scenarios|Rule|Feature|Background|@).*");
+
+    private static final Map<String, List<String>> FEATURES = new ConcurrentHashMap<>();
+
+    private StepCounts() {
+        // Utility class
+    }
+
+    /**
+     * Estimates the step count of a scenario.
+     *
+     * @param key {@link String} the scenario key ({@code <feature path>:<line>})
+     * @return {@code int} the number of steps, at least 1
+     */
+    static int of(String key) {
+        int colon = key.lastIndexOf(':');
+        List<String> lines = FEATURES.computeIfAbsent(key.substring(0, colon), StepCounts::read);
+        int line = Integer.parseInt(key.substring(colon + 1));
+
+        int header = Math.min(line, lines.size()) - 1;
+        while (header >= 0 && !SCENARIO.matcher(lines.get(header)).matches()) {
+            header--;
+        }
+
+        int steps = 0;
+        boolean inBackground = false;
+        for (int i = 0; i < lines.size(); i++) {
+            String text = lines.get(i);
+            if (i < header) {
+                if (text.startsWith("Background:")) {
+                    inBackground = true;
+                } else if (SCENARIO.matcher(text).matches() || BLOCK_END.matcher(text).matches()) {
+                    inBackground = false;
+                } else if (inBackground && STEP.matcher(text).matches()) {
+                    steps++;
+                }
+            } else if (i > header) {
+                if (SCENARIO.matcher(text).matches() || BLOCK_END.matcher(text).matches()) {
+                    break;
+                }
+                if (STEP.matcher(text).matches()) {
+                    steps++;
+                }
+            }
+        }
+
+        return Math.max(1, steps);
+    }
+
+    private static List<String> read(String featurePath) {
+        try (InputStream is = StepCounts.class.getClassLoader().getResourceAsStream(featurePath)) {
+            if (is == null) {
+                return List.of();
+            }
+            return new String(is.readAllBytes(), StandardCharsets.UTF_8).lines().map(String::strip).toList();
+        } catch (IOException e) {
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package scheduling;
+
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectPackage;
+import static org.junit.platform.launcher.EngineFilter.includeEngines;
+
+/**
+ * Serves an ordered queue of scenario keys to {@link WorkQueueWorker}s over a socket.
+ *
+ * <p>Started by the first worker JVM that manages to bind the port; later workers, in other
+ * Surefire forks or on other hosts, connect to it. The queue is the Cucumber discovery order,
+ * which {@link ScenarioOrderingFilter} has already sorted longest-first. Each connection has
+ * at most one scenario in flight; if the connection drops before its result arrives (worker
+ * crash, killed fork, lost host) that scenario goes back to the front of the queue.</p>
+ *
+ * <p>Line protocol, one request and one reply at a time:</p>
+ * <pre>
+ * HELLO &lt;worker&gt;                   -&gt; OK
+ * NEXT                             -&gt; RUN &lt;key&gt; | WAIT | DONE
+ * RESULT &lt;status&gt; &lt;ms&gt; &lt;key&gt;       -&gt; OK
+ * </pre>
+ * <p>{@code WAIT} means the queue is empty but other workers still have scenarios in flight
+ * that may be requeued; {@code DONE} means every scenario has a result.</p>
+ *
+ * <p>Each reported duration is recorded into {@link DurationHistory}, saved when the queue is
+ * drained. The per-scenario reports that workers on this host wrote under
+ * {@link WorkQueueWorker#SCENARIO_REPORTS_DIR} are then merged into {@link #MERGED_DIR}; workers
+ * on other hosts keep theirs locally.</p>
+ */
+final class WorkQueueCoordinator {
+
+    private static final Logger log = LoggerFactory.getLogger(WorkQueueCoordinator.class);
+
+    static final Path MERGED_DIR = Path.of("test-results", "work-queue", "merged");
+
+    private final ServerSocket server;
+    private final Deque<String> queue;
+    private final int total;
+    private final Map<Connection, String> inFlight = new HashMap<>();
+    private final Map<String, Integer> completedByWorker = new TreeMap<>();
+    private final List<String> failed = new ArrayList<>();
+    private final DurationHistory history = DurationHistory.load();
+    private int completed;
+    private int requeued;
+    private boolean summarised;
+
+    private WorkQueueCoordinator(ServerSocket server, List<String> keys) {
+        this.server = server;
+        this.queue = new ArrayDeque<>(keys);
+        this.total = keys.size();
+    }
+
+    /**
+     * Discovers the scenarios of this run and starts serving them on a bound socket.
+     *
+     * @param server {@link ServerSocket} the bound server socket
+     * @return {@link WorkQueueCoordinator} the running coordinator
+     */
+    static WorkQueueCoordinator start(ServerSocket server) {
+        clearScenarioReports();
+        WorkQueueCoordinator coordinator = new WorkQueueCoordinator(server, discoverScenarios());
+
+        Thread acceptor = new Thread(coordinator::acceptLoop, "work-queue-coordinator");
+        acceptor.setDaemon(true);
+        acceptor.start();
+
+        log.info("QUEUE coordinator listening on {} with {} scenarios",
+                server.getLocalSocketAddress(), coordinator.total);
+        return coordinator;
+    }
+
+    private static List<String> discoverScenarios() {
+        TestPlan plan = LauncherFactory.create().discover(LauncherDiscoveryRequestBuilder.request()
+                .selectors(selectPackage("features"))
+                .filters(includeEngines("cucumber"))
+                .build());
+
+        List<String> keys = new ArrayList<>();
+        for (TestIdentifier root : plan.getRoots()) {
+            collect(plan, root, keys);
+        }
+        return keys;
+    }
+
+    private static void collect(TestPlan plan, TestIdentifier identifier, List<String> keys) {
+        ScenarioKeys.of(identifier).ifPresent(keys::add);
+        for (TestIdentifier child : plan.getChildren(identifier)) {
+            collect(plan, child, keys);
+        }
+    }
+
+    private void acceptLoop() {
+        while (!server.isClosed()) {
+            try {
+                Socket socket = server.accept();
+                Thread handler = new Thread(() -> serve(socket), "work-queue-connection");
+                handler.setDaemon(true);
+                handler.start();
+            } catch (IOException e) {
+                if (!server.isClosed()) {
+                    log.warn("QUEUE accept failed: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        Connection connection = new Connection(socket.getRemoteSocketAddress().toString());
+
+        try (socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8)) {
+
+            String line;
+            while ((line = in.readLine()) != null) {
+                out.println(handle(connection, line));
+            }
+        } catch (IOException e) {
+            log.warn("QUEUE lost worker {}: {}", connection.worker, e.getMessage());
+        } finally {
+            requeueInFlight(connection);
+        }
+    }
+
+    private synchronized String handle(Connection connection, String line) {
+        String[] parts = line.split(" ", 4);
+
+        switch (parts[0]) {
+            case "HELLO" -> {
+                connection.worker = (parts.length > 1) ? line.substring("HELLO ".length()) : connection.worker;
+                log.info("QUEUE worker joined: {}", connection.worker);
+                return "OK";
+            }
+            case "NEXT" -> {
+                String key = queue.pollFirst();
+                if (key != null) {
+                    inFlight.put(connection, key);
+                    return "RUN " + key;
+                }
+                if (!inFlight.isEmpty()) {
+                    return "WAIT";
+                }
+                summariseOnce();
+                return "DONE";
+            }
+            case "RESULT" -> {
+                String key = inFlight.remove(connection);
+                if (key != null) {
+                    boolean passed = "PASSED".equals(parts[1]);
+                    completed++;
+                    completedByWorker.merge(connection.worker, 1, Integer::sum);
+                    history.record(key, Long.parseLong(parts[2]), !passed);
+                    if (!passed) {
+                        failed.add(key);
+                    }
+                }
+                return "OK";
+            }
+            default -> {
+                return "ERROR unknown command " + parts[0];
+            }
+        }
+    }
+
+    private synchronized void requeueInFlight(Connection connection) {
+        String key = inFlight.remove(connection);
+        if (key != null) {
+            queue.addFirst(key);
+            requeued++;
+            log.warn("QUEUE requeued {} after worker {} disconnected", key, connection.worker);
+        }
+    }
+
+    private void summariseOnce() {
+        if (summarised) {
+            return;
+        }
+        summarised = true;
+
+        log.info("QUEUE finished: scenarios={}, completed={}, failed={}, requeued={}",
+                total, completed, failed.size(), requeued);
+        completedByWorker.forEach((worker, count) -> log.info("QUEUE worker {}: {} scenarios", worker, count));
+        failed.forEach(key -> log.info("QUEUE failed: {}", key));
+
+        history.save();
+        mergeScenarioReports();
+    }
+
+    /**
+     * Removes scenario reports left by a previous run, before any worker has joined this one.
+     */
+    private static void clearScenarioReports() {
+        if (!Files.isDirectory(WorkQueueWorker.SCENARIO_REPORTS_DIR)) {
+            return;
+        }
+
+        try (Stream<Path> paths = Files.walk(WorkQueueWorker.SCENARIO_REPORTS_DIR)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            log.warn("QUEUE could not clear {}: {}", WorkQueueWorker.SCENARIO_REPORTS_DIR, e.getMessage());
+        }
+    }
+
+    private static void mergeScenarioReports() {
+        if (!Files.isDirectory(WorkQueueWorker.SCENARIO_REPORTS_DIR)) {
+            return;
+        }
+
+        try (Stream<Path> dirs = Files.list(WorkQueueWorker.SCENARIO_REPORTS_DIR)) {
+            List<Path> reportDirs = dirs.filter(Files::isDirectory).sorted().toList();
+            ShardReportMerger.merge(reportDirs, MERGED_DIR);
+            log.info("QUEUE merged {} scenario report(s) into {}", reportDirs.size(), MERGED_DIR);
+        } catch (Exception e) {
+            log.warn("QUEUE could not merge scenario reports: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * One worker connection; identity-keyed so two workers never share an in-flight slot.
+     */
+    private static final class Connection {
+
+        private String worker;
+
+        Connection(String worker) {
+            this.worker = worker;
+        }
+    }
+}
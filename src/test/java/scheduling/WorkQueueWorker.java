@@ -0,0 +1,200 @@
+package scheduling;
+
+import config.ConfigReader;
+import driver.BrowserPool;
+import hooks.SuiteHooks;
+import io.cucumber.core.cli.Main;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.net.BindException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * A runner JVM's connection to the work-stealing queue ({@code workQueue.enabled=true}).
+ *
+ * <p>{@link #connect()} starts a {@link WorkQueueCoordinator} if none is listening on
+ * {@code workQueue.host:workQueue.port} and this JVM is on that host, otherwise joins the existing
+ * one. The worker then pulls one scenario at a time and runs it in-process through the Cucumber
+ * command line with the usual glue ({@code steps}, {@code hooks}), so pooled browsers stay alive
+ * between scenarios. The JVM that hosts the coordinator keeps serving until every scenario has
+ * a result, including scenarios requeued from crashed workers.</p>
+ *
+ * <p>Each scenario run writes its JSON and JUnit XML reports to its own directory under
+ * {@link #SCENARIO_REPORTS_DIR}, which the coordinator merges once the queue is drained.
+ * Durations are recorded by the coordinator from the reported results, and run-wide summaries
+ * are logged and pooled browsers closed by {@link #close()}, not per scenario run.</p>
+ */
+public final class WorkQueueWorker implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(WorkQueueWorker.class);
+
+    /** Parent of the per-scenario report directories ({@code <worker>-<n>}). */
+    static final Path SCENARIO_REPORTS_DIR = Path.of("test-results", "work-queue", "scenarios");
+
+    private static volatile boolean active;
+
+    private final Socket socket;
+    private final BufferedReader in;
+    private final PrintWriter out;
+    private final ServerSocket hosted;
+    private final String name;
+    private int runs;
+
+    private WorkQueueWorker(Socket socket, ServerSocket hosted, String name) throws IOException {
+        this.socket = socket;
+        this.in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        this.out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+        this.hosted = hosted;
+        this.name = name;
+    }
+
+    /**
+     * Indicates whether this JVM is running scenarios from the work queue.
+     *
+     * <p>Each queued scenario is a separate Cucumber run, so suite-level teardown such as
+     * {@link BrowserPool#shutdown()} and the run-wide summaries must wait for {@link #close()}
+     * instead.</p>
+     *
+     * @return {@code boolean} true while a worker is connected
+     */
+    public static boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Indicates whether the work queue runner is enabled by configuration.
+     *
+     * @return {@code boolean} true if {@code workQueue.enabled=true}
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.getBool("workQueue.enabled");
+    }
+
+    /**
+     * Starts or joins the coordinator and registers this JVM as a worker.
+     *
+     * @return {@link WorkQueueWorker} the connected worker
+     * @throws UncheckedIOException if the coordinator cannot be started or reached
+     */
+    public static WorkQueueWorker connect() {
+        String host = ConfigReader.get("workQueue.host");
+        int port = ConfigReader.getInt("workQueue.port");
+
+        try {
+            InetAddress address = InetAddress.getByName(host);
+            ServerSocket hosted = null;
+
+            if (address.isLoopbackAddress() || InetAddress.getLocalHost().equals(address)) {
+                try {
+                    hosted = new ServerSocket(port, 50, InetAddress.getByName(ConfigReader.get("workQueue.bind")));
+                    WorkQueueCoordinator.start(hosted);
+                } catch (BindException alreadyRunning) {
+                    log.info("QUEUE joining coordinator at {}:{}", host, port);
+                }
+            }
+
+            String name = ManagementFactory.getRuntimeMXBean().getName();
+            WorkQueueWorker worker = new WorkQueueWorker(new Socket(address, port), hosted,
+                    name.replaceAll("[^a-zA-Z0-9-_.]+", "_"));
+            worker.request("HELLO " + name);
+            active = true;
+            return worker;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot start or join work queue at " + host + ":" + port, e);
+        }
+    }
+
+    /**
+     * Takes the next scenario from the queue, waiting while other workers may still requeue theirs.
+     *
+     * @return {@link String} the scenario key, or {@code null} when every scenario has a result
+     */
+    public String next() {
+        try {
+            while (true) {
+                String reply = request("NEXT");
+                if (reply.startsWith("RUN ")) {
+                    return reply.substring("RUN ".length());
+                }
+                if (!"WAIT".equals(reply)) {
+                    return null;
+                }
+                Thread.sleep(500);
+            }
+        } catch (IOException e) {
+            log.warn("QUEUE lost coordinator, stopping: {}", e.getMessage());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    /**
+     * Runs one scenario through the existing glue and reports its result to the coordinator.
+     *
+     * @param key {@link String} the scenario key
+     * @return {@code boolean} true if the scenario passed
+     */
+    public boolean run(String key) {
+        Path reportDir = SCENARIO_REPORTS_DIR.resolve(name + "-" + (++runs));
+
+        long start = System.nanoTime();
+        byte exitStatus = Main.run(new String[] {
+                "--glue", "steps",
+                "--glue", "hooks",
+                "--plugin", "json:" + reportDir.resolve("cucumber.json"),
+                "--plugin", "junit:" + reportDir.resolve("cucumber.xml"),
+                ScenarioKeys.toFeatureArgument(key)
+        }, Thread.currentThread().getContextClassLoader());
+        long durationMs = (System.nanoTime() - start) / 1_000_000;
+
+        boolean passed = exitStatus == 0;
+        try {
+            request("RESULT " + (passed ? "PASSED" : "FAILED") + " " + durationMs + " " + key);
+        } catch (IOException e) {
+            log.warn("QUEUE could not report result of {}: {}", key, e.getMessage());
+        }
+        return passed;
+    }
+
+    /**
+     * Logs this JVM's run-wide summaries, releases pooled browsers and disconnects from the
+     * coordinator.
+     */
+    @Override
+    public void close() {
+        active = false;
+        SuiteHooks.finishRun();
+
+        try {
+            socket.close();
+            if (hosted != null) {
+                hosted.close();
+            }
+        } catch (IOException ignored) {
+            // No action required
+        }
+    }
+
+    private String request(String line) throws IOException {
+        out.println(line);
+        String reply = in.readLine();
+        if (reply == null) {
+            throw new IOException("coordinator closed the connection");
+        }
+        return reply;
+    }
+}
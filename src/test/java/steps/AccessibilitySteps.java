@@ -1,8 +1,12 @@
 package steps;
 
+import driver.DriverManager;
 import helpers.accessibility.*;
 import io.cucumber.java.en.Then;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Accessibility-specific step definitions.
  *
@@ -112,4 +116,24 @@ public class AccessibilitySteps {
     public void emailFieldHasAccessibleLabel() {
         AccessibilityAriaAssertions.assertEmailFieldHasAccessibleLabel();
     }
+
+    /* ================= AXE (WCAG RULES) ================= */
+
+    @Then("the page should have no accessibility violations")
+    public void pageHasNoAccessibilityViolations() {
+        if (AccessibilityScanPipeline.isEnabled()) {
+            AccessibilityScanPipeline.submitSnapshot(DriverManager.page());
+        } else {
+            AccessibilityPolicy.validate(AccessibilityChecks.scanFullPage());
+        }
+    }
+
+    @Then("the page regions {string} should have no accessibility violations")
+    public void regionsHaveNoAccessibilityViolations(String selectors) {
+        List<String> regions = Arrays.stream(selectors.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .toList();
+        AccessibilityPolicy.validateRegions(AccessibilityChecks.scanRegions(regions, List.of()));
+    }
 }
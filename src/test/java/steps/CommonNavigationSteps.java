@@ -3,8 +3,7 @@ package steps;
 import config.ConfigReader;
 import helpers.ui.UiActions;
 import helpers.ui.UiAssertions;
-import helpers.ui.UiLocators;
-import helpers.ui.UiWaits;
+import helpers.ui.UiSession;
 import io.cucumber.java.en.Given;
 
 /**
@@ -15,6 +14,8 @@ import io.cucumber.java.en.Given;
  */
 public class CommonNavigationSteps {
 
+    private static final String USERNAME = "citizen";
+    private static final String PASSWORD = "Password123!";
 
     /**
      * Verifies that the demo service is available.
@@ -30,16 +31,15 @@ public class CommonNavigationSteps {
         }
 
         UiActions.goToPath("/sign-in");
-        UiWaits.waitForUrlEndsWith("/sign-in");
         UiAssertions.assertUrlEndsWith("/sign-in");
     }
 
+    /**
+     * Signs the user in, reusing the run-wide authenticated session when available.
+     */
     @Given("the user is signed in")
     public void theUserIsSignedIn() {
-        UiActions.goToPath("/sign-in");
-        UiActions.fill(UiLocators.username(), "citizen");
-        UiActions.fill(UiLocators.password(), "password");
-        UiActions.clickButton("Sign in");
+        UiSession.signIn(USERNAME, PASSWORD);
     }
 
     @Given("the user is on the Signed in home page")
@@ -53,14 +53,12 @@ public class CommonNavigationSteps {
     @Given("the user is on the Sign in page")
     public void theUserIsOnTheSignInPage() {
         UiActions.goToPath("/sign-in");
-        UiWaits.waitForUrlEndsWith("/sign-in");
         UiAssertions.assertUrlEndsWith("/sign-in");
     }
 
     @Given("the user is on the Forgotten username page")
     public void theUserIsOnTheForgottenUsernamePage() {
         UiActions.goToPath("/forgotten-username");
-        UiWaits.waitForUrlEndsWith("/forgotten-username");
         UiAssertions.assertUrlEndsWith("/forgotten-username");
     }
 
@@ -71,7 +69,6 @@ public class CommonNavigationSteps {
     @Given("the user is on the Forgotten password page")
     public void theUserIsOnTheForgottenPasswordPage() {
         UiActions.goToPath("/forgotten-password");
-        UiWaits.waitForUrlEndsWith("/forgotten-password");
         UiAssertions.assertUrlEndsWith("/forgotten-password");
     }
 }
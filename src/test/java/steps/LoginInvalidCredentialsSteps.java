@@ -37,7 +37,6 @@ public class LoginInvalidCredentialsSteps {
      */
     @Then("the user should remain on the Sign in page")
     public void theUserShouldRemainOnTheSignInPage() {
-        UiWaits.waitForUrlEndsWith("/sign-in");
         UiAssertions.assertUrlEndsWith("/sign-in");
     }
 
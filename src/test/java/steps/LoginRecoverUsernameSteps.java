@@ -3,7 +3,6 @@ package steps;
 import helpers.ui.UiActions;
 import helpers.ui.UiAssertions;
 import helpers.ui.UiLocators;
-import helpers.ui.UiWaits;
 import io.cucumber.datatable.DataTable;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
@@ -40,7 +39,6 @@ public class LoginRecoverUsernameSteps {
      */
     @Then("the user should remain on the Forgotten username page")
     public void theUserShouldRemainOnTheForgottenUsernamePage() {
-        UiWaits.waitForUrlEndsWith("/forgotten-username");
         UiAssertions.assertUrlEndsWith("/forgotten-username");
     }
 
@@ -3,7 +3,6 @@ package steps;
 import helpers.ui.UiActions;
 import helpers.ui.UiAssertions;
 import helpers.ui.UiLocators;
-import helpers.ui.UiWaits;
 import io.cucumber.datatable.DataTable;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
@@ -42,7 +41,6 @@ public class LoginResetPasswordSteps {
      */
     @Then("the user should remain on the Forgotten password page")
     public void theUserShouldRemainOnTheForgottenPasswordPage() {
-        UiWaits.waitForUrlEndsWith("/forgotten-password");
         UiAssertions.assertUrlEndsWith("/forgotten-password");
     }
 
@@ -4,7 +4,6 @@ import config.ConfigReader;
 import helpers.ui.UiActions;
 import helpers.ui.UiAssertions;
 import helpers.ui.UiLocators;
-import helpers.ui.UiWaits;
 import io.cucumber.datatable.DataTable;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
@@ -41,7 +40,6 @@ public class LoginSuccessfulSteps {
      */
     @Then("the user should be redirected to the Signed in page")
     public void theUserShouldBeRedirectedToTheSignedInPage() {
-        UiWaits.waitForUrlEndsWith("/signed-in");
         UiAssertions.assertUrlEndsWith("/signed-in");
     }
 
@@ -50,7 +48,6 @@ public class LoginSuccessfulSteps {
      */
     @Then("the user should be redirected to the Sign in page")
     public void theUserShouldBeRedirectedToTheSignInPage() {
-        UiWaits.waitForUrlEndsWith("/sign-in");
         UiAssertions.assertUrlEndsWith("/sign-in");
     }
 
@@ -71,7 +68,6 @@ public class LoginSuccessfulSteps {
      */
     @Then("the page title should be {string}")
     public void thePageTitleShouldBe(String expectedTitle) {
-        UiWaits.waitForTitle(expectedTitle);
         UiAssertions.assertTitleIs(expectedTitle);
     }
 